@@ -0,0 +1,81 @@
+package devdan.restful.benchmark;
+
+import devdan.restful.BelajarSpringRestfulApiApplication;
+import devdan.restful.entity.User;
+import devdan.restful.model.request.CreateContactRequest;
+import devdan.restful.repository.UserRepository;
+import devdan.restful.service.ContactService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// benchmark integrasi (spring context + H2 dari src/test/resources): throughput insert contact per detik
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ContactBulkImportBenchmark {
+
+    private static final int CONTACTS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private ContactService contactService;
+    private User user;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BelajarSpringRestfulApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN", "spring.jpa.properties.hibernate.generate_statistics=false")
+                .run();
+        contactService = context.getBean(ContactService.class);
+
+        user = new User();
+        user.setUsername("benchmark");
+        user.setPassword("-");
+        user.setName("Benchmark");
+        context.getBean(UserRepository.class).save(user);
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < CONTACTS; i++) {
+            body.append("{\"firstname\":\"Ardhani").append(i)
+                    .append("\",\"lastname\":\"Ahlan\",\"email\":\"ardhan").append(i)
+                    .append("@example.com\",\"phone\":\"0812114134\"}\n");
+        }
+        payload = body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONTACTS)
+    public int bulkImport() throws IOException {
+        return contactService.bulkCreate(user, new ByteArrayInputStream(payload)).size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONTACTS)
+    public int singleCreate() {
+        for (int i = 0; i < CONTACTS; i++) {
+            contactService.create(user, CreateContactRequest.builder()
+                    .firstname("Ardhani" + i)
+                    .lastname("Ahlan")
+                    .email("ardhan" + i + "@example.com")
+                    .phone("0812114134")
+                    .build());
+        }
+        return CONTACTS;
+    }
+}
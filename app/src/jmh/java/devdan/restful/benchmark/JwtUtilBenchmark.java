@@ -0,0 +1,44 @@
+package devdan.restful.benchmark;
+
+import devdan.restful.resolver.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "rahasiaSuperAmanBangetYangSangatPanjang123456";
+
+    private JwtUtil coldJwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        coldJwtUtil = new JwtUtil(SECRET, 3600000, 0);
+        cachedJwtUtil = new JwtUtil(SECRET, 3600000, 10000);
+        token = cachedJwtUtil.generatedToken("test");
+        cachedJwtUtil.validateAndGetUsername(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return cachedJwtUtil.generatedToken("test");
+    }
+
+    @Benchmark
+    public String validateCold() {
+        return coldJwtUtil.validateAndGetUsername(token);
+    }
+
+    @Benchmark
+    public String validateCached() {
+        return cachedJwtUtil.validateAndGetUsername(token);
+    }
+}
@@ -0,0 +1,54 @@
+package devdan.restful.benchmark;
+
+import devdan.restful.config.SecurityConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// satu thread = satu core; hasil ops/s dibaca sebagai hash per detik per core
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    // format: skema atau skema:parameter (bcrypt:strength, argon2:memoryKiB, pbkdf2:iterations)
+    @Param({"bcrypt:10", "bcrypt:12", "argon2:19456", "pbkdf2:310000"})
+    private String setting;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        String[] parts = setting.split(":");
+        SecurityConfig config = new SecurityConfig();
+        config.setId(parts[0]);
+        if (parts.length > 1) {
+            int value = Integer.parseInt(parts[1]);
+            switch (parts[0]) {
+                case SecurityConfig.BCRYPT -> config.getBcrypt().setStrength(value);
+                case SecurityConfig.ARGON2 -> config.getArgon2().setMemory(value);
+                case SecurityConfig.PBKDF2 -> config.getPbkdf2().setIterations(value);
+                default -> throw new IllegalArgumentException(setting);
+            }
+        }
+
+        passwordEncoder = config.passwordEncoder();
+        encodedPassword = passwordEncoder.encode("rahasia");
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode("rahasia");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("rahasia", encodedPassword);
+    }
+}
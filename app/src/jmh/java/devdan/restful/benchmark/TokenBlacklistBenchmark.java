@@ -0,0 +1,73 @@
+package devdan.restful.benchmark;
+
+import devdan.restful.config.InMemoryRevocationStore;
+import devdan.restful.config.TokenBlacklist;
+import devdan.restful.resolver.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// lookup dari banyak thread request, dengan dan tanpa logout (add) yang berjalan bersamaan
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenBlacklistBenchmark {
+
+    private static final int TOKENS = 1024;
+
+    private TokenBlacklist tokenBlacklist;
+    private String[] activeTokens;
+    private String[] revokedTokens;
+    private long expiresAt;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil("rahasiaSuperAmanBangetYangSangatPanjang123456", 3600000, 0);
+        tokenBlacklist = new TokenBlacklist(new InMemoryRevocationStore(), 100000, 0.01);
+        expiresAt = System.currentTimeMillis() + 3600000;
+
+        activeTokens = new String[TOKENS];
+        revokedTokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            activeTokens[i] = jwtUtil.generatedToken("active" + i);
+            revokedTokens[i] = jwtUtil.generatedToken("revoked" + i);
+            tokenBlacklist.add(revokedTokens[i], expiresAt);
+        }
+    }
+
+    // jalur umum: token tidak di-revoke, berhenti di bloom filter
+    @Benchmark
+    @Threads(8)
+    public boolean lookupActive(Cursor cursor) {
+        return tokenBlacklist.contains(activeTokens[cursor.next++ & (TOKENS - 1)]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean lookupRevoked(Cursor cursor) {
+        return tokenBlacklist.contains(revokedTokens[cursor.next++ & (TOKENS - 1)]);
+    }
+
+    @Benchmark
+    @Group("lookupWhileRevoking")
+    @GroupThreads(7)
+    public boolean lookup(Cursor cursor) {
+        return tokenBlacklist.contains(activeTokens[cursor.next++ & (TOKENS - 1)]);
+    }
+
+    // token yang sama di-revoke ulang supaya ukuran store tetap selama pengukuran
+    @Benchmark
+    @Group("lookupWhileRevoking")
+    @GroupThreads(1)
+    public void revoke(Cursor cursor) {
+        tokenBlacklist.add(revokedTokens[cursor.next++ & (TOKENS - 1)], expiresAt);
+    }
+}
@@ -0,0 +1,69 @@
+package devdan.restful.benchmark;
+
+import devdan.restful.model.request.*;
+import devdan.restful.service.ValidationService;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// ValidationService.validate untuk request yang valid, satu kali per request masuk
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"RegisterUserRequest", "LoginUserRequest", "UpdateUserRequest", "RefreshTokenRequest",
+            "CreateContactRequest", "UpdateContactRequest", "PatchContactRequest", "SearchContactRequest",
+            "CreateAddressRequest", "UpdateAddressRequest", "PatchAddressRequest"})
+    private String request;
+
+    private ValidationService validationService;
+    private Object payload;
+
+    @Setup
+    public void setUp() {
+        validationService = new ValidationService();
+        ReflectionTestUtils.setField(validationService, "validator",
+                Validation.buildDefaultValidatorFactory().getValidator());
+
+        payload = switch (request) {
+            case "RegisterUserRequest" -> RegisterUserRequest.builder()
+                    .username("test").password("rahasia").name("Test").build();
+            case "LoginUserRequest" -> LoginUserRequest.builder()
+                    .username("test").password("rahasia").build();
+            case "UpdateUserRequest" -> UpdateUserRequest.builder()
+                    .name("Test").password("rahasia").build();
+            case "RefreshTokenRequest" -> RefreshTokenRequest.builder()
+                    .refreshToken("0f3c2a9e-1b7d-4e5a-9c8b-6d2f1e0a4b3c").build();
+            case "CreateContactRequest" -> CreateContactRequest.builder()
+                    .firstname("Ardhani").lastname("Ahlan").email("ardhan@example.com").phone("0812114134").build();
+            case "UpdateContactRequest" -> UpdateContactRequest.builder()
+                    .id("contact-1").version(0L)
+                    .firstname("Ardhani").lastname("Ahlan").email("ardhan@example.com").phone("0812114134").build();
+            case "PatchContactRequest" -> PatchContactRequest.builder()
+                    .id("contact-1").email("ardhan@example.com").build();
+            case "SearchContactRequest" -> SearchContactRequest.builder()
+                    .name("ardhan").page(0).size(10).build();
+            case "CreateAddressRequest" -> CreateAddressRequest.builder()
+                    .idContact("contact-1").street("Telaga Murni").city("Bekasi").province("Jawa Barat")
+                    .country("Indonesia").postalCode("12345").build();
+            case "UpdateAddressRequest" -> UpdateAddressRequest.builder()
+                    .idContact("contact-1").idAddress("address-1").version(0L).street("Telaga Murni").city("Bekasi")
+                    .province("Jawa Barat").country("Indonesia").postalCode("12345").build();
+            case "PatchAddressRequest" -> PatchAddressRequest.builder()
+                    .idContact("contact-1").idAddress("address-1").city("Bekasi").build();
+            default -> throw new IllegalArgumentException(request);
+        };
+    }
+
+    @Benchmark
+    public Object validate() {
+        validationService.validate(payload);
+        return payload;
+    }
+}
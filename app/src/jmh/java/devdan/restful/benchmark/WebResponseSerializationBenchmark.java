@@ -0,0 +1,80 @@
+package devdan.restful.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devdan.restful.model.response.AddressResponse;
+import devdan.restful.model.response.ContactResponse;
+import devdan.restful.model.response.PagingResponse;
+import devdan.restful.model.response.WebResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// serialisasi body response seperti MappingJackson2HttpMessageConverter (ObjectMapper bawaan Spring)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private WebResponse<ContactResponse> contact;
+    private WebResponse<List<ContactResponse>> contactPage;
+    private WebResponse<List<AddressResponse>> addresses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<ContactResponse> contacts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            contacts.add(ContactResponse.builder()
+                    .id("contact-" + i)
+                    .firstname("Ardhani" + i)
+                    .lastname("Ahlan")
+                    .email("ardhan" + i + "@example.com")
+                    .phone("0812114134")
+                    .version(0L)
+                    .build());
+        }
+        contact = WebResponse.<ContactResponse>builder().data(contacts.get(0)).build();
+        contactPage = WebResponse.<List<ContactResponse>>builder()
+                .data(contacts)
+                .pagingResponse(PagingResponse.builder().currentPage(0).totalPage(10).size(10).build())
+                .build();
+
+        List<AddressResponse> addressList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            addressList.add(AddressResponse.builder()
+                    .id("address-" + i)
+                    .street("Telaga Murni")
+                    .city("Bekasi")
+                    .province("Jawa Barat")
+                    .country("Indonesia")
+                    .postalCode("12345")
+                    .version(0L)
+                    .build());
+        }
+        addresses = WebResponse.<List<AddressResponse>>builder().data(addressList).build();
+    }
+
+    @Benchmark
+    public byte[] contact() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(contact);
+    }
+
+    @Benchmark
+    public byte[] contactPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(contactPage);
+    }
+
+    @Benchmark
+    public byte[] addressList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(addresses);
+    }
+}
@@ -0,0 +1,71 @@
+package devdan.restful.service;
+
+import devdan.restful.entity.Address;
+import devdan.restful.entity.Contact;
+import devdan.restful.model.response.AddressResponse;
+import devdan.restful.model.response.ContactResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// satu package dengan service supaya bisa memanggil mapper yang package-private
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMapperBenchmark {
+
+    private Contact contact;
+    private List<Contact> page;
+    private Address address;
+
+    @Setup
+    public void setUp() {
+        contact = contact(1);
+        page = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            page.add(contact(i));
+        }
+
+        address = new Address();
+        address.setId("address-1");
+        address.setStreet("Telaga Murni");
+        address.setCity("Bekasi");
+        address.setProvince("Jawa Barat");
+        address.setCountry("Indonesia");
+        address.setPostalCode("12345");
+        address.setContact(contact);
+        address.setVersion(0L);
+    }
+
+    private static Contact contact(int i) {
+        Contact contact = new Contact();
+        contact.setId("contact-" + i);
+        contact.setFirstName("Ardhani" + i);
+        contact.setLastName("Ahlan");
+        contact.setEmail("ardhan" + i + "@example.com");
+        contact.setPhone("0812114134");
+        contact.setVersion(0L);
+        return contact;
+    }
+
+    @Benchmark
+    public ContactResponse toContactResponse() {
+        return ContactService.toContactResponse(contact);
+    }
+
+    // halaman search default (size 10)
+    @Benchmark
+    public List<ContactResponse> toContactResponsePage() {
+        return page.stream().map(ContactService::toContactResponse).toList();
+    }
+
+    @Benchmark
+    public AddressResponse toAddressResponse() {
+        return AddressService.toAddressResponse(address);
+    }
+}
@@ -0,0 +1,86 @@
+package devdan.restful.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// isi users × contacts × addresses lewat batch JDBC (tanpa JPA), id deterministik supaya workload bisa menebaknya
+public class DataSeeder {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static String username(int user) {
+        return "loadtest" + user;
+    }
+
+    public static String contactId(int user, int contact) {
+        return "lt-u" + user + "-c" + contact;
+    }
+
+    public static String email(int user, int contact) {
+        return "user" + user + ".contact" + contact + "@example.com";
+    }
+
+    public static String phone(int user, int contact) {
+        return String.format("08%04d%06d", user, contact);
+    }
+
+    public void clear() {
+        jdbcTemplate.update("delete from contact_trigrams where username like 'loadtest%'");
+        jdbcTemplate.update("delete from addresses where contact_id in (select id from contacts where username like 'loadtest%')");
+        jdbcTemplate.update("delete from contacts where username like 'loadtest%'");
+        jdbcTemplate.update("delete from refresh_tokens where username like 'loadtest%'");
+        jdbcTemplate.update("delete from users where username like 'loadtest%'");
+    }
+
+    // satu hash untuk semua user: hashing ribuan password saat seeding jauh lebih lama dari seeding-nya
+    public void seed(int users, int contactsPerUser, int addressesPerContact, String encodedPassword) {
+        List<Object[]> userRows = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            userRows.add(new Object[]{username(u), encodedPassword, "Load Test " + u});
+        }
+        insert("insert into users (username, password, name, version) values (?, ?, ?, 0)", userRows);
+
+        List<Object[]> contactRows = new ArrayList<>();
+        List<Object[]> addressRows = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            for (int c = 0; c < contactsPerUser; c++) {
+                String contactId = contactId(u, c);
+                contactRows.add(new Object[]{contactId, username(u), "First" + c, "Last" + u,
+                        email(u, c), phone(u, c)});
+                for (int a = 0; a < addressesPerContact; a++) {
+                    addressRows.add(new Object[]{contactId + "-a" + a, contactId, "Jalan " + a, "Bekasi",
+                            "Jawa Barat", "Indonesia", "12345"});
+                }
+
+                if (contactRows.size() >= BATCH_SIZE || addressRows.size() >= BATCH_SIZE) {
+                    flush(contactRows, addressRows);
+                }
+            }
+        }
+        flush(contactRows, addressRows);
+    }
+
+    // contact dulu, address punya foreign key ke contact
+    private void flush(List<Object[]> contactRows, List<Object[]> addressRows) {
+        insert("insert into contacts (id, username, first_name, last_name, email, phone, version) "
+                + "values (?, ?, ?, ?, ?, ?, 0)", contactRows);
+        insert("insert into addresses (id, contact_id, street, city, province, country, postal_code, version) "
+                + "values (?, ?, ?, ?, ?, ?, ?, 0)", addressRows);
+        contactRows.clear();
+        addressRows.clear();
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package devdan.restful.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// latency satu endpoint dalam mikrodetik; Recorder aman dipakai banyak worker tanpa lock
+public class EndpointStats {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Recorder recorder = new Recorder(HIGHEST_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+    private Histogram histogram;
+    private long errorCount;
+
+    public void record(long nanos, boolean success) {
+        if (success) {
+            recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_MICROS));
+        } else {
+            errors.increment();
+        }
+    }
+
+    // buang hasil warmup
+    public void reset() {
+        recorder.getIntervalHistogram();
+        errors.reset();
+    }
+
+    public void finish() {
+        histogram = recorder.getIntervalHistogram();
+        errorCount = errors.sumThenReset();
+    }
+
+    public long getRequests() {
+        return histogram.getTotalCount();
+    }
+
+    public Map<String, Object> toReport(double seconds) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", histogram.getTotalCount());
+        report.put("errors", errorCount);
+        report.put("throughput", round(histogram.getTotalCount() / seconds));
+        report.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+        report.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+        report.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+        report.put("maxMs", millis(histogram.getMaxValue()));
+        return report;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
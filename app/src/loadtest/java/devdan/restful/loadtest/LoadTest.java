@@ -0,0 +1,221 @@
+package devdan.restful.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devdan.restful.BelajarSpringRestfulApiApplication;
+import devdan.restful.config.SecurityConfig;
+import devdan.restful.service.TrigramContactSearchIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.ToLongFunction;
+
+// load test end-to-end: seed data, jalankan workload dari banyak thread, tulis throughput dan p50/p99/p999 per endpoint ke JSON.
+// Tanpa url=..., aplikasi dijalankan in-process dengan H2 dari src/test/resources; argumen --xxx diteruskan ke Spring, mis.
+//   mvn -pl app -am -Ploadtest test-compile exec:exec -Dloadtest.args="users=100 contacts=1000 --contact.search.index=trigram"
+// Ke server yang sudah jalan (mis. MySQL lokal, profile virtual, atau modul reactive):
+//   -Dloadtest.args="url=http://localhost:8080 jdbc-url=jdbc:mysql://localhost:3306/belajar_spring_restful_api jdbc-username=root jdbc-password=..."
+// baseline=<report.json lama> mencetak selisih throughput dan p99 per endpoint; writes=false tanpa address CRUD.
+// Di MySQL/MariaDB report juga memuat statement per detik dari counter status server selama pengukuran
+public class LoadTest {
+
+    static final String PASSWORD = "rahasia";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                springArgs.add(arg);
+            } else if (arg.contains("=")) {
+                options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        int users = Integer.parseInt(options.getOrDefault("users", "50"));
+        int contacts = Integer.parseInt(options.getOrDefault("contacts", "200"));
+        int addresses = Integer.parseInt(options.getOrDefault("addresses", "2"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", "16"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        boolean writes = !"false".equals(options.get("writes"));
+        File report = new File(options.getOrDefault("report", "target/loadtest/report.json"));
+
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.get("url");
+        JdbcTemplate jdbcTemplate;
+        PasswordEncoder passwordEncoder;
+        if (baseUrl == null) {
+            context = new SpringApplicationBuilder(BelajarSpringRestfulApiApplication.class)
+                    .properties("server.port=0", "logging.level.root=WARN",
+                            "spring.jpa.properties.hibernate.show_sql=false",
+                            "spring.jpa.properties.hibernate.generate_statistics=false")
+                    .run(springArgs.toArray(new String[0]));
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            jdbcTemplate = context.getBean(JdbcTemplate.class);
+            passwordEncoder = context.getBean(PasswordEncoder.class);
+        } else {
+            jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(options.get("jdbc-url"),
+                    options.get("jdbc-username"), options.get("jdbc-password")));
+            // harus sama dengan encoder server, default SecurityConfig
+            passwordEncoder = new SecurityConfig().passwordEncoder();
+        }
+
+        try {
+            if (!"false".equals(options.get("seed"))) {
+                long start = System.nanoTime();
+                DataSeeder seeder = new DataSeeder(jdbcTemplate);
+                seeder.clear();
+                seeder.seed(users, contacts, addresses, passwordEncoder.encode(PASSWORD));
+                // seeding lewat JDBC melewati index; di mode embedded index diisi ulang, server luar perlu di-restart
+                if (context != null) {
+                    context.getBeanProvider(TrigramContactSearchIndex.class).ifAvailable(TrigramContactSearchIndex::backfill);
+                }
+                System.out.printf("seeded %d users x %d contacts x %d addresses in %d ms%n",
+                        users, contacts, addresses, (System.nanoTime() - start) / 1_000_000);
+            }
+
+            Map<String, EndpointStats> stats = Workload.newStats();
+            List<Map<String, Long>> dbStatus = new ArrayList<>();
+            double seconds = run(baseUrl, stats, users, contacts, threads, writes, warmup, duration,
+                    () -> dbStatus.add(dbStatus(jdbcTemplate)));
+
+            Map<String, Object> result = report(baseUrl, options, users, contacts, addresses, threads, seconds, stats);
+            Map<String, Object> db = dbReport(dbStatus.get(0), dbStatus.get(1), seconds);
+            if (!db.isEmpty()) {
+                result.put("db", db);
+            }
+            report.getAbsoluteFile().getParentFile().mkdirs();
+            JSON.writerWithDefaultPrettyPrinter().writeValue(report, result);
+            print(stats, seconds, options.get("baseline"));
+            if (result.containsKey("db")) {
+                System.out.println("db per second: " + result.get("db"));
+            }
+            System.out.println("report: " + report.getPath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static double run(String baseUrl, Map<String, EndpointStats> stats, int users, int contacts, int threads,
+                              boolean writes, Duration warmup, Duration duration, Runnable sample) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Workload workload = new Workload(client, baseUrl, stats, i % users, contacts, i, writes);
+            Thread worker = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        workload.next();
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, "loadtest-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+
+        Thread.sleep(warmup.toMillis());
+        stats.values().forEach(EndpointStats::reset);
+        sample.run();
+        long start = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        sample.run();
+        stats.values().forEach(EndpointStats::finish);
+        return seconds;
+    }
+
+    // counter status MySQL/MariaDB; kosong untuk database lain (H2)
+    private static Map<String, Long> dbStatus(JdbcTemplate jdbcTemplate) {
+        Map<String, Long> status = new HashMap<>();
+        try {
+            jdbcTemplate.query("SHOW GLOBAL STATUS WHERE Variable_name IN "
+                            + "('Questions', 'Com_select', 'Com_insert', 'Com_update', 'Com_delete')",
+                    rs -> {
+                        status.put(rs.getString(1), rs.getLong(2));
+                    });
+        } catch (RuntimeException e) {
+            status.clear();
+        }
+        return status;
+    }
+
+    // queries = semua statement dari client, termasuk SET autocommit/COMMIT/SET TRANSACTION milik transaksi
+    private static Map<String, Object> dbReport(Map<String, Long> before, Map<String, Long> after, double seconds) {
+        Map<String, Object> db = new LinkedHashMap<>();
+        if (before.isEmpty() || after.isEmpty()) {
+            return db;
+        }
+        ToLongFunction<String> delta = name -> after.get(name) - before.get(name);
+        long writes = delta.applyAsLong("Com_insert") + delta.applyAsLong("Com_update") + delta.applyAsLong("Com_delete");
+        db.put("queriesPerSecond", Math.round(delta.applyAsLong("Questions") / seconds * 100) / 100.0);
+        db.put("selectsPerSecond", Math.round(delta.applyAsLong("Com_select") / seconds * 100) / 100.0);
+        db.put("writesPerSecond", Math.round(writes / seconds * 100) / 100.0);
+        return db;
+    }
+
+    private static Map<String, Object> report(String baseUrl, Map<String, String> options, int users, int contacts,
+                                              int addresses, int threads, double seconds,
+                                              Map<String, EndpointStats> stats) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", Instant.now().toString());
+        result.put("target", options.containsKey("url") ? baseUrl : "embedded");
+        Map<String, Object> dataset = new LinkedHashMap<>();
+        dataset.put("users", users);
+        dataset.put("contactsPerUser", contacts);
+        dataset.put("addressesPerContact", addresses);
+        result.put("dataset", dataset);
+        result.put("threads", threads);
+        result.put("writes", !"false".equals(options.get("writes")));
+        result.put("durationSeconds", Math.round(seconds * 100) / 100.0);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            endpoints.put(entry.getKey(), entry.getValue().toReport(seconds));
+            total += entry.getValue().getRequests();
+        }
+        result.put("throughput", Math.round(total / seconds * 100) / 100.0);
+        result.put("endpoints", endpoints);
+        return result;
+    }
+
+    private static void print(Map<String, EndpointStats> stats, double seconds, String baseline) throws Exception {
+        JsonNode previous = baseline == null ? null : JSON.readTree(new File(baseline)).path("endpoints");
+
+        System.out.printf("%-56s %9s %7s %9s %9s %9s %9s%n", "endpoint", "req/s", "errors", "p50 ms", "p99 ms", "p999 ms",
+                previous == null ? "" : "p99 diff");
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            Map<String, Object> row = entry.getValue().toReport(seconds);
+            String diff = "";
+            if (previous != null && previous.has(entry.getKey())) {
+                double before = previous.get(entry.getKey()).path("p99Ms").asDouble();
+                diff = before == 0 ? "-" : String.format(Locale.ROOT, "%+.1f%%", ((double) row.get("p99Ms") / before - 1) * 100);
+            }
+            System.out.printf(Locale.ROOT, "%-56s %9.1f %7d %9.2f %9.2f %9.2f %9s%n", entry.getKey(), row.get("throughput"),
+                    row.get("errors"), row.get("p50Ms"), row.get("p99Ms"), row.get("p999Ms"), diff);
+        }
+    }
+}
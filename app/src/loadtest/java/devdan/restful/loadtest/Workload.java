@@ -0,0 +1,151 @@
+package devdan.restful.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+// campuran request satu virtual user; bobot kira-kira mengikuti trafik aplikasi contact (dominan baca)
+public class Workload {
+
+    public static final String LOGIN = "POST /api/auth/login";
+    public static final String CURRENT_USER = "GET /api/users/current";
+    public static final String SEARCH_NAME = "GET /api/contacts?name";
+    public static final String SEARCH_EMAIL = "GET /api/contacts?email";
+    public static final String SEARCH_PHONE = "GET /api/contacts?phone";
+    public static final String LIST_ADDRESSES = "GET /api/contacts/{idContact}/addresses";
+    public static final String CREATE_ADDRESS = "POST /api/contacts/{idContact}/addresses";
+    public static final String GET_ADDRESS = "GET /api/contacts/{idContact}/addresses/{idAddress}";
+    public static final String UPDATE_ADDRESS = "PUT /api/contacts/{idContact}/addresses/{idAddress}";
+    public static final String DELETE_ADDRESS = "DELETE /api/contacts/{idContact}/addresses/{idAddress}";
+
+    // skenario -> bobot; skenario "address" menjalankan create, get, update, delete berurutan
+    private static final String[] SCENARIOS = {LOGIN, CURRENT_USER, SEARCH_NAME, SEARCH_EMAIL, SEARCH_PHONE, LIST_ADDRESSES, "address"};
+    private static final int[] WEIGHTS = {2, 20, 20, 10, 10, 28, 10};
+    // writes=false: tanpa address CRUD, bobotnya pindah ke list address
+    private static final int[] READ_ONLY_WEIGHTS = {2, 20, 20, 10, 10, 38, 0};
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Map<String, EndpointStats> stats;
+    private final int user;
+    private final int contactsPerUser;
+    private final Random random;
+    private final int[] weights;
+    private String token;
+
+    public Workload(HttpClient client, String baseUrl, Map<String, EndpointStats> stats,
+                    int user, int contactsPerUser, long seed, boolean writes) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+        this.user = user;
+        this.contactsPerUser = contactsPerUser;
+        this.random = new Random(seed);
+        this.weights = writes ? WEIGHTS : READ_ONLY_WEIGHTS;
+    }
+
+    public static Map<String, EndpointStats> newStats() {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (String endpoint : new String[]{LOGIN, CURRENT_USER, SEARCH_NAME, SEARCH_EMAIL, SEARCH_PHONE, LIST_ADDRESSES,
+                CREATE_ADDRESS, GET_ADDRESS, UPDATE_ADDRESS, DELETE_ADDRESS}) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        return stats;
+    }
+
+    public void next() throws IOException, InterruptedException {
+        if (token == null) {
+            login();
+            return;
+        }
+
+        int pick = random.nextInt(100);
+        int scenario = 0;
+        while (pick >= weights[scenario]) {
+            pick -= weights[scenario++];
+        }
+
+        int contact = random.nextInt(contactsPerUser);
+        String contactPath = "/api/contacts/" + DataSeeder.contactId(user, contact);
+        switch (SCENARIOS[scenario]) {
+            case LOGIN -> login();
+            case CURRENT_USER -> send(CURRENT_USER, get("/api/users/current"));
+            // prefix dan potongan nilai, seperti pencarian dari kotak search
+            case SEARCH_NAME -> send(SEARCH_NAME, get("/api/contacts?name=First" + contact / 10));
+            case SEARCH_EMAIL -> send(SEARCH_EMAIL, get("/api/contacts?email=contact" + contact + "@"));
+            case SEARCH_PHONE -> send(SEARCH_PHONE, get("/api/contacts?phone="
+                    + DataSeeder.phone(user, contact).substring(6)));
+            case LIST_ADDRESSES -> send(LIST_ADDRESSES, get(contactPath + "/addresses"));
+            default -> addressCrud(contactPath);
+        }
+    }
+
+    private void login() throws IOException, InterruptedException {
+        String body = "{\"username\":\"" + DataSeeder.username(user) + "\",\"password\":\"" + LoadTest.PASSWORD + "\"}";
+        JsonNode response = send(LOGIN, request("/api/auth/login").POST(HttpRequest.BodyPublishers.ofString(body)));
+        if (response != null) {
+            token = response.path("data").path("token").asText();
+        }
+    }
+
+    private void addressCrud(String contactPath) throws IOException, InterruptedException {
+        String address = "{\"street\":\"Telaga Murni\",\"city\":\"Bekasi\",\"province\":\"Jawa Barat\","
+                + "\"country\":\"Indonesia\",\"postalCode\":\"12345\"}";
+        JsonNode created = send(CREATE_ADDRESS, authorized(contactPath + "/addresses")
+                .POST(HttpRequest.BodyPublishers.ofString(address)));
+        if (created == null) {
+            return;
+        }
+
+        String addressPath = contactPath + "/addresses/" + created.path("data").path("id").asText();
+        send(GET_ADDRESS, get(addressPath));
+        send(UPDATE_ADDRESS, authorized(addressPath)
+                .PUT(HttpRequest.BodyPublishers.ofString(address.replace("Bekasi", "Jakarta"))));
+        send(DELETE_ADDRESS, authorized(addressPath).DELETE());
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return authorized(path).GET();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return request(path).header("Authorization", token);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    // null jika gagal; 401 berarti token kedaluwarsa/di-revoke, login ulang di iterasi berikutnya
+    private JsonNode send(String endpoint, HttpRequest.Builder request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            stats.get(endpoint).record(System.nanoTime() - start, false);
+            return null;
+        }
+
+        boolean success = response.statusCode() < 400;
+        stats.get(endpoint).record(System.nanoTime() - start, success);
+        if (response.statusCode() == 401) {
+            token = null;
+        }
+        return success ? JSON.readTree(response.body()) : null;
+    }
+}
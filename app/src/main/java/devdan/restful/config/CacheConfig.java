@@ -0,0 +1,27 @@
+package devdan.restful.config;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URISyntaxException;
+
+// satu CacheManager JCache (ehcache.xml) dipakai bersama oleh second-level cache Hibernate dan cache aplikasi
+@Configuration
+public class CacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager jcacheManager() throws URISyntaxException {
+        return Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager(getClass().getResource("/ehcache.xml").toURI(), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jcacheManagerCustomizer(CacheManager jcacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, jcacheManager);
+    }
+}
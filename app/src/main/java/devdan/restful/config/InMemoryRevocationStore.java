@@ -0,0 +1,55 @@
+package devdan.restful.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "token.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRevocationStore implements RevocationStore {
+
+    private final Map<String, Revocation> revoked = new ConcurrentHashMap<>();
+
+    @Override
+    public void revoke(String tokenHash, long expiresAt) {
+        revoked.putIfAbsent(tokenHash, new Revocation(expiresAt, System.currentTimeMillis()));
+    }
+
+    @Override
+    public boolean isRevoked(String tokenHash, long now) {
+        Revocation revocation = revoked.get(tokenHash);
+        return revocation != null && revocation.expiresAt() > now;
+    }
+
+    @Override
+    public int purgeExpired(long now) {
+        // hanya entry yang benar-benar dihapus di sini yang dihitung; selisih size ikut terpengaruh revoke bersamaan
+        int purged = 0;
+        for (Map.Entry<String, Revocation> entry : revoked.entrySet()) {
+            if (entry.getValue().expiresAt() <= now && revoked.remove(entry.getKey(), entry.getValue())) {
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    @Override
+    public void forEachActive(long now, Consumer<String> consumer) {
+        forEachRevokedSince(Long.MIN_VALUE, now, consumer);
+    }
+
+    @Override
+    public void forEachRevokedSince(long since, long now, Consumer<String> consumer) {
+        revoked.forEach((tokenHash, revocation) -> {
+            if (revocation.revokedAt() >= since && revocation.expiresAt() > now) {
+                consumer.accept(tokenHash);
+            }
+        });
+    }
+
+    private record Revocation(long expiresAt, long revokedAt) {
+    }
+}
@@ -0,0 +1,59 @@
+package devdan.restful.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+@Component
+@ConditionalOnProperty(name = "token.revocation.store", havingValue = "jdbc")
+public class JdbcRevocationStore implements RevocationStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRevocationStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // ditulis langsung (bukan antrean lokal), jadi logout yang sudah dijawab OK tidak hilang saat node mati
+    @Override
+    public void revoke(String tokenHash, long expiresAt) {
+        try {
+            jdbcTemplate.update("INSERT INTO revoked_tokens (token_hash, expires_at, revoked_at) VALUES (?, ?, ?)",
+                    tokenHash, expiresAt, System.currentTimeMillis());
+        } catch (DuplicateKeyException e) {
+            // token sudah di-revoke sebelumnya; pengganti INSERT IGNORE yang hanya ada di MySQL
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenHash, long now) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM revoked_tokens WHERE token_hash = ? AND expires_at > ?",
+                Integer.class, tokenHash, now);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public int purgeExpired(long now) {
+        return jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at <= ?", now);
+    }
+
+    @Override
+    public void forEachActive(long now, Consumer<String> consumer) {
+        jdbcTemplate.query("SELECT token_hash FROM revoked_tokens WHERE expires_at > ?",
+                resultSet -> {
+                    consumer.accept(resultSet.getString(1));
+                }, now);
+    }
+
+    @Override
+    public void forEachRevokedSince(long since, long now, Consumer<String> consumer) {
+        jdbcTemplate.query("SELECT token_hash FROM revoked_tokens WHERE revoked_at >= ? AND expires_at > ?",
+                resultSet -> {
+                    consumer.accept(resultSet.getString(1));
+                }, since, now);
+    }
+}
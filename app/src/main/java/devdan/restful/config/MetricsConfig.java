@@ -0,0 +1,55 @@
+package devdan.restful.config;
+
+import devdan.restful.resolver.PrincipalCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// counter yang sudah ada di komponen (hit/miss cache, blacklist, replica) diekspos ke Micrometer tanpa mengubah komponennya
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder principalCacheMetrics(PrincipalCache principalCache) {
+        return registry -> {
+            FunctionCounter.builder("principal.cache.requests", principalCache, PrincipalCache::getHits)
+                    .tag("result", "hit").register(registry);
+            FunctionCounter.builder("principal.cache.requests", principalCache, PrincipalCache::getMisses)
+                    .tag("result", "miss").register(registry);
+            FunctionCounter.builder("principal.cache.evictions", principalCache, PrincipalCache::getEvictions)
+                    .register(registry);
+            Gauge.builder("principal.cache.size", principalCache, PrincipalCache::size).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder tokenBlacklistMetrics(TokenBlacklist tokenBlacklist) {
+        return registry -> {
+            Gauge.builder("token.blacklist.size", tokenBlacklist, TokenBlacklist::size).register(registry);
+            FunctionCounter.builder("token.blacklist.purged", tokenBlacklist, TokenBlacklist::getPurged)
+                    .register(registry);
+            FunctionCounter.builder("token.blacklist.purge.runs", tokenBlacklist, TokenBlacklist::getPurgeRuns)
+                    .register(registry);
+        };
+    }
+
+    // dua komponen berikut hanya ada jika fiturnya diaktifkan
+    @Bean
+    public MeterBinder optionalComponentMetrics(ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource,
+                                                ObjectProvider<VirtualThreadPinningMonitor> pinningMonitor) {
+        return registry -> {
+            replicaRoutingDataSource.ifAvailable(routing ->
+                    Gauge.builder("datasource.replicas.healthy", routing, r -> r.getHealthyReplicas().size())
+                            .register(registry));
+            pinningMonitor.ifAvailable(monitor -> {
+                FunctionCounter.builder("jvm.threads.virtual.pinned", monitor, VirtualThreadPinningMonitor::getPinnedEvents)
+                        .register(registry);
+                FunctionCounter.builder("jvm.threads.virtual.pinned.time", monitor, m -> m.getPinnedNanos() / 1e9)
+                        .baseUnit("seconds").register(registry);
+            });
+        };
+    }
+}
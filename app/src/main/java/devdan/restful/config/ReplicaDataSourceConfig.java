@@ -0,0 +1,112 @@
+package devdan.restful.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// aktif jika datasource.replica.urls diisi; tanpa itu Spring Boot membuat satu pool ke primary seperti biasa
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.urls")
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceConfig {
+
+    private List<String> urls = new ArrayList<>();
+    // kosong = sama dengan spring.datasource
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    private long connectionTimeout = 2000;
+    private int validationTimeout = 1;
+
+    // wajib ada getter & setter untuk binding
+    public List<String> getUrls() {
+        return urls;
+    }
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public long getConnectionTimeout() {
+        return connectionTimeout;
+    }
+    public void setConnectionTimeout(long connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public int getValidationTimeout() {
+        return validationTimeout;
+    }
+    public void setValidationTimeout(int validationTimeout) {
+        this.validationTimeout = validationTimeout;
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(urls.get(i));
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(username != null ? username : properties.determineUsername());
+            replica.setPassword(password != null ? password : properties.determinePassword());
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setConnectionTimeout(connectionTimeout);
+            // replica yang mati saat startup tidak boleh menggagalkan aplikasi
+            replica.setInitializationFailTimeout(-1);
+            // pool replica bukan bean, metrics Hikari-nya didaftarkan manual
+            meterRegistry.ifAvailable(registry ->
+                    replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, validationTimeout);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
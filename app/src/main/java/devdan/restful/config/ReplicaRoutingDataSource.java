@@ -0,0 +1,139 @@
+package devdan.restful.config;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// transaksi @Transactional(readOnly = true) ke replica secara round-robin, selain itu ke primary.
+// Harus dibungkus LazyConnectionDataSourceProxy: JPA mengambil koneksi sebelum flag readOnly di-set.
+// Health check hanya memeriksa koneksi, bukan replication lag: data dari replica bisa tertinggal sebesar lag
+// replikasi (biasanya < 1 detik, tanpa batas atas saat replikasi macet). Yang butuh data terbaru
+// (ETag/versi, baca-setelah-tulis) harus memakai transaksi read-write
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, int validationTimeoutSeconds) {
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.primary = primary;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<Replica> replicaList = new ArrayList<>();
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            targets.put(replica.key, replica.dataSource);
+            replicaList.add(replica);
+        }
+        this.replicas = List.copyOf(replicaList);
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Replica replica = chooseReplica();
+        return replica != null ? replica.key : PRIMARY;
+    }
+
+    // replica yang gagal memberi koneksi langsung ditandai bermasalah dan query dijalankan di primary,
+    // tanpa menunggu health check berikutnya
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = chooseReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replica.healthy = false;
+            log.warn("Replica {} unavailable, falling back to primary: {}", replica.key, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    // null berarti primary: bukan transaksi readOnly, tidak ada replica, atau semua replica bermasalah
+    private Replica chooseReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicas.isEmpty()) {
+            return null;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // replica baru dipakai setelah lolos validasi pertama (dijalankan saat startup), yang gagal dilewati
+    // sampai pengecekan berikutnya berhasil
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            replica.healthy = isValid(replica.dataSource);
+        }
+    }
+
+    public List<String> getHealthyReplicas() {
+        return replicas.stream().filter(replica -> replica.healthy).map(replica -> replica.key).toList();
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    // primary adalah bean sendiri dan ditutup oleh Spring, replica dibuat di sini
+    @PreDestroy
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private boolean isValid(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
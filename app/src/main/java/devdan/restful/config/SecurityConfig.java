@@ -0,0 +1,150 @@
+package devdan.restful.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "password.encoder")
+public class SecurityConfig {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+    public static final String PBKDF2 = "pbkdf2";
+
+    // skema untuk hash baru; hash dengan skema lain tetap bisa dicocokkan lalu di-upgrade saat login
+    private String id = BCRYPT;
+    private final Bcrypt bcrypt = new Bcrypt();
+    private final Argon2 argon2 = new Argon2();
+    private final Pbkdf2 pbkdf2 = new Pbkdf2();
+
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Bcrypt getBcrypt() {
+        return bcrypt;
+    }
+
+    public Argon2 getArgon2() {
+        return argon2;
+    }
+
+    public Pbkdf2 getPbkdf2() {
+        return pbkdf2;
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(){
+        BCryptPasswordEncoder bcryptEncoder = new BCryptPasswordEncoder(bcrypt.getStrength());
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcryptEncoder);
+        encoders.put(ARGON2, new Argon2PasswordEncoder(argon2.getSaltLength(), argon2.getHashLength(),
+                argon2.getParallelism(), argon2.getMemory(), argon2.getIterations()));
+        encoders.put(PBKDF2, new Pbkdf2PasswordEncoder(pbkdf2.getSecret(), pbkdf2.getSaltLength(),
+                pbkdf2.getIterations(), Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+
+        if (!encoders.containsKey(id)) {
+            throw new IllegalStateException("Unknown password.encoder.id: " + id);
+        }
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(id, encoders);
+        // hash lama disimpan tanpa prefix {id}, semuanya BCrypt
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcryptEncoder);
+        return passwordEncoder;
+    }
+
+    public static class Bcrypt {
+        private int strength = 10;
+
+        public int getStrength() {
+            return strength;
+        }
+        public void setStrength(int strength) {
+            this.strength = strength;
+        }
+    }
+
+    public static class Argon2 {
+        private int saltLength = 16;
+        private int hashLength = 32;
+        private int parallelism = 1;
+        // dalam KiB
+        private int memory = 19456;
+        private int iterations = 2;
+
+        public int getSaltLength() {
+            return saltLength;
+        }
+        public void setSaltLength(int saltLength) {
+            this.saltLength = saltLength;
+        }
+
+        public int getHashLength() {
+            return hashLength;
+        }
+        public void setHashLength(int hashLength) {
+            this.hashLength = hashLength;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getMemory() {
+            return memory;
+        }
+        public void setMemory(int memory) {
+            this.memory = memory;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+    }
+
+    public static class Pbkdf2 {
+        private String secret = "";
+        private int saltLength = 16;
+        private int iterations = 310000;
+
+        public String getSecret() {
+            return secret;
+        }
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+
+        public int getSaltLength() {
+            return saltLength;
+        }
+        public void setSaltLength(int saltLength) {
+            this.saltLength = saltLength;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package devdan.restful.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// virtual thread yang blocking di dalam synchronized (atau native) tidak bisa lepas dari carrier-nya.
+// Event JFR jdk.VirtualThreadPinned (JDK 21) dicatat per lokasi kode dan dilaporkan sekali per lokasi
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "devdan.restful.";
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final RecordingStream stream;
+
+    private final AtomicLong pinnedEvents = new AtomicLong();
+    private final AtomicLong pinnedNanos = new AtomicLong();
+    private final Map<String, AtomicLong> pinnedSites = new ConcurrentHashMap<>();
+
+    public VirtualThreadPinningMonitor(@Value("${threads.virtual.pinned-threshold:20ms}") Duration threshold) {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+    }
+
+    public long getPinnedEvents() {
+        return pinnedEvents.get();
+    }
+
+    public long getPinnedNanos() {
+        return pinnedNanos.get();
+    }
+
+    // lokasi -> jumlah event, lokasi = frame aplikasi teratas
+    public Map<String, Long> getPinnedSites() {
+        Map<String, Long> sites = new ConcurrentHashMap<>();
+        pinnedSites.forEach((site, count) -> sites.put(site, count.get()));
+        return sites;
+    }
+
+    @PreDestroy
+    public void close() {
+        stream.close();
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedEvents.incrementAndGet();
+        pinnedNanos.addAndGet(event.getDuration().toNanos());
+
+        String site = siteOf(event.getStackTrace());
+        AtomicLong count = pinnedSites.computeIfAbsent(site, key -> new AtomicLong());
+        if (count.getAndIncrement() == 0) {
+            log.warn("Virtual thread pinned for {} ms at {}\n{}",
+                    event.getDuration().toMillis(), site, format(event.getStackTrace()));
+        }
+    }
+
+    private static String siteOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+                return frameName(frame);
+            }
+        }
+        return frameName(stackTrace.getFrames().get(0));
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            builder.append("\tat ").append(frameName(frame)).append('\n');
+        }
+        return builder.toString();
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -3,13 +3,17 @@ package devdan.restful.controller;
 import devdan.restful.entity.Contact;
 import devdan.restful.entity.User;
 import devdan.restful.model.request.CreateAddressRequest;
+import devdan.restful.model.request.PatchAddressRequest;
 import devdan.restful.model.request.UpdateAddressRequest;
 import devdan.restful.model.response.AddressResponse;
 import devdan.restful.model.response.WebResponse;
 import devdan.restful.service.AddressService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -41,9 +45,15 @@ public class AddressController {
     public WebResponse<AddressResponse> get(
             User user,
             @PathVariable("idContact") String idContact,
-            @PathVariable("idAddress") String idAddress
+            @PathVariable("idAddress") String idAddress,
+            WebRequest webRequest
     ){
+        if (ETags.notModified(webRequest, () -> addressService.getVersion(user, idContact, idAddress))) {
+            return null;
+        }
+
         AddressResponse response = addressService.get(user, idContact, idAddress);
+        webRequest.checkNotModified(ETags.of(response.getVersion()));
         return WebResponse.<AddressResponse>builder().data(response).build();
     }
 
@@ -56,12 +66,38 @@ public class AddressController {
         User user,
         @RequestBody UpdateAddressRequest request,
         @PathVariable("idContact") String idContact,
-        @PathVariable("idAddress") String idAddress
+        @PathVariable("idAddress") String idAddress,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        HttpServletResponse servletResponse
     ){
         request.setIdContact(idContact);
         request.setIdAddress(idAddress);
+        request.setVersion(ETags.ifMatch(ifMatch));
 
         AddressResponse response = addressService.update(user, request);
+        ETags.write(servletResponse, response.getVersion());
+        return WebResponse.<AddressResponse>builder().data(response).build();
+    }
+
+    @PatchMapping(
+            path = "/api/contacts/{idContact}/addresses/{idAddress}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public WebResponse<AddressResponse> patch(
+            User user,
+            @RequestBody PatchAddressRequest request,
+            @PathVariable("idContact") String idContact,
+            @PathVariable("idAddress") String idAddress,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletResponse servletResponse
+    ){
+        request.setIdContact(idContact);
+        request.setIdAddress(idAddress);
+        request.setVersion(ETags.ifMatch(ifMatch));
+
+        AddressResponse response = addressService.patch(user, request);
+        ETags.write(servletResponse, response.getVersion());
         return WebResponse.<AddressResponse>builder().data(response).build();
     }
 
@@ -84,9 +120,17 @@ public class AddressController {
     )
     public WebResponse<List<AddressResponse>> list(
             User user,
-            @PathVariable("idContact") String idContact
+            @PathVariable("idContact") String idContact,
+            WebRequest webRequest
     ){
+        // versi dibaca sebelum daftar: kalau daftar berubah di antaranya, ETag lebih lama dan request
+        // berikutnya tetap dapat 200, tidak pernah 304 untuk data yang basi
+        if (webRequest.checkNotModified(ETags.of(addressService.getListVersion(user, idContact)))) {
+            return null;
+        }
+
         List<AddressResponse> response = addressService.list(user, idContact);
+
         return WebResponse.<List<AddressResponse>>builder().data(response).build();
     }
 }
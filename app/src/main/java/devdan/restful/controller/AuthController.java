@@ -2,6 +2,7 @@ package devdan.restful.controller;
 
 import devdan.restful.entity.User;
 import devdan.restful.model.request.LoginUserRequest;
+import devdan.restful.model.request.RefreshTokenRequest;
 import devdan.restful.model.response.TokenResponse;
 import devdan.restful.model.response.WebResponse;
 import devdan.restful.resolver.JwtUtil;
@@ -14,6 +15,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 public class AuthController {
 
@@ -26,8 +29,18 @@ public class AuthController {
             produces = MediaType.APPLICATION_JSON_VALUE
 
     )
-    public WebResponse<TokenResponse> login(@RequestBody LoginUserRequest request){
-        TokenResponse tokenResponse = authService.login(request);
+    public CompletableFuture<WebResponse<TokenResponse>> login(@RequestBody LoginUserRequest request){
+        return authService.login(request)
+                .thenApply(tokenResponse -> WebResponse.<TokenResponse>builder().data(tokenResponse).build());
+    }
+
+    @PostMapping(
+            path = "/api/auth/refresh",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public WebResponse<TokenResponse> refresh(@RequestBody RefreshTokenRequest request){
+        TokenResponse tokenResponse = authService.refresh(request);
         return WebResponse.<TokenResponse>builder().data(tokenResponse).build();
     }
 
@@ -0,0 +1,194 @@
+package devdan.restful.controller;
+
+import devdan.restful.entity.User;
+import devdan.restful.model.request.CreateContactRequest;
+import devdan.restful.model.request.PatchContactRequest;
+import devdan.restful.model.request.SearchContactRequest;
+import devdan.restful.model.request.UpdateContactRequest;
+import devdan.restful.model.response.BulkContactResponse;
+import devdan.restful.model.response.ContactResponse;
+import devdan.restful.model.response.PagingResponse;
+import devdan.restful.model.response.WebResponse;
+import devdan.restful.service.ContactCursor;
+import devdan.restful.service.ContactService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+public class ContactController {
+
+    @Autowired
+    private ContactService contactService;
+
+    @PostMapping(
+            path = "/api/contacts",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public WebResponse<ContactResponse> create(User user, @RequestBody CreateContactRequest request){
+        ContactResponse response = contactService.create(user, request);
+        return WebResponse.<ContactResponse>builder().data(response).build();
+    }
+
+    @PostMapping(
+            path = "/api/contacts/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public WebResponse<List<BulkContactResponse>> bulkCreate(User user, HttpServletRequest request) throws IOException {
+        List<BulkContactResponse> response = contactService.bulkCreate(user, request.getInputStream());
+        return WebResponse.<List<BulkContactResponse>>builder().data(response).build();
+    }
+
+    @GetMapping(
+            path = "/api/contacts/export"
+    )
+    public ResponseEntity<StreamingResponseBody> export(
+            User user,
+            @RequestParam(value = "format", required = false, defaultValue = "ndjson") String format
+    ){
+        MediaType contentType = switch (format) {
+            case "ndjson" -> MediaType.APPLICATION_NDJSON;
+            case "csv" -> new MediaType("text", "csv");
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid export format");
+        };
+
+        StreamingResponseBody body = output -> contactService.export(user, format, output);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"contacts." + format + "\"")
+                .body(body);
+    }
+
+    @GetMapping(
+            path = "/api/contacts/{idContact}",
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    public WebResponse<ContactResponse> get(User user, @PathVariable("idContact") String id, WebRequest webRequest){
+        if (ETags.notModified(webRequest, () -> contactService.getVersion(user, id))) {
+            return null;
+        }
+
+        ContactResponse response = contactService.get(user, id);
+        webRequest.checkNotModified(ETags.of(response.getVersion()));
+        return WebResponse.<ContactResponse>builder().data(response).build();
+    }
+
+    @PutMapping(
+            path = "/api/contacts/{idContact}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public WebResponse<ContactResponse> update(
+            User user ,
+            @RequestBody UpdateContactRequest request,
+            @PathVariable("idContact") String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletResponse servletResponse
+    ){
+        request.setId(id);
+        request.setVersion(ETags.ifMatch(ifMatch));
+
+        ContactResponse response = contactService.update(user, request);
+        ETags.write(servletResponse, response.getVersion());
+        return WebResponse.<ContactResponse>builder().data(response).build();
+    }
+
+    @PatchMapping(
+            path = "/api/contacts/{idContact}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public WebResponse<ContactResponse> patch(
+            User user,
+            @RequestBody PatchContactRequest request,
+            @PathVariable("idContact") String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletResponse servletResponse
+    ){
+        request.setId(id);
+        request.setVersion(ETags.ifMatch(ifMatch));
+
+        ContactResponse response = contactService.patch(user, request);
+        ETags.write(servletResponse, response.getVersion());
+        return WebResponse.<ContactResponse>builder().data(response).build();
+    }
+
+    @DeleteMapping(
+            path = "/api/contacts/{idContact}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public WebResponse<String> delete(User user,@PathVariable("idContact") String id){
+        contactService.delete(user, id);
+        return WebResponse.<String>builder().data("OK").build();
+    }
+
+    @GetMapping(
+            path = "/api/contacts",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public WebResponse<List<ContactResponse>> search(
+            User user,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "phone", required = false) String phone,
+            @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
+            @RequestParam(value = "size", required = false, defaultValue = "10") Integer size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "count", required = false, defaultValue = "exact") String count
+    ){
+        SearchContactRequest request = SearchContactRequest.builder()
+                .name(name)
+                .email(email)
+                .phone(phone)
+                .page(page)
+                .size(size)
+                .cursor(cursor)
+                .count(count)
+                .build();
+
+        if (cursor != null) {
+            Window<ContactResponse> window = contactService.searchByCursor(user, request);
+            String nextCursor = window.hasNext() ? ContactCursor.encode(window.positionAt(window.size() - 1)) : null;
+            return WebResponse.<List<ContactResponse>>builder()
+                    .data(window.getContent())
+                    .pagingResponse(PagingResponse.builder()
+                            .size(size)
+                            .nextCursor(nextCursor)
+                            .hasMore(window.hasNext())
+                            .build())
+                    .build();
+        }
+
+        Slice<ContactResponse> responseSlice = contactService.search(user, request);
+        PagingResponse.PagingResponseBuilder paging = PagingResponse.builder()
+                .currentPage(responseSlice.getNumber())
+                .size(responseSlice.getSize())
+                .hasMore(responseSlice.hasNext());
+
+        if (responseSlice instanceof Page<ContactResponse> responsePage) {
+            paging.totalPage(responsePage.getTotalPages())
+                    .approximate("estimate".equals(count));
+        }
+
+        return WebResponse.<List<ContactResponse>>builder()
+                .data(responseSlice.getContent())
+                .pagingResponse(paging.build())
+                .build();
+    }
+}
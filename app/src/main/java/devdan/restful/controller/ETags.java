@@ -0,0 +1,52 @@
+package devdan.restful.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
+
+// ETag kuat dari kolom @Version; versi berubah setiap kali baris di-update
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    static void write(HttpServletResponse response, Long version) {
+        if (version != null) {
+            response.setHeader(HttpHeaders.ETAG, of(version));
+        }
+    }
+
+    // null berarti tanpa prekondisi (header kosong atau "*"); ETag yang tidak dikenali tidak akan pernah cocok
+    static Long ifMatch(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+
+        // If-Match memakai perbandingan kuat, ETag lemah (W/) tidak pernah cocok
+        String value = header.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "ETag does not match");
+        }
+    }
+
+    // true berarti 304 sudah disiapkan dan handler cukup mengembalikan null
+    static boolean notModified(WebRequest webRequest, Supplier<Long> versionLookup) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            return false;
+        }
+        return webRequest.checkNotModified(of(versionLookup.get()));
+    }
+}
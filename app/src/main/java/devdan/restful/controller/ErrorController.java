@@ -4,6 +4,7 @@ import devdan.restful.model.response.WebResponse;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.server.ResponseStatusException;
@@ -17,6 +18,13 @@ public class ErrorController {
                 .body(WebResponse.<String>builder().errors(exception.getMessage()).build());
     }
 
+    // versi berubah di antara load dan flush (penulis lain menang lebih dulu)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<WebResponse<String>> optimisticLockingFailure(ObjectOptimisticLockingFailureException exception){
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(WebResponse.<String>builder().errors("Resource was modified concurrently, reload and try again").build());
+    }
+
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<WebResponse<String>> apiException(ResponseStatusException exception){
         return ResponseEntity.status(exception.getStatusCode())
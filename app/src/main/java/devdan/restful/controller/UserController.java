@@ -9,6 +9,9 @@ import devdan.restful.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 public class UserController {
@@ -20,16 +23,21 @@ public class UserController {
             consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public WebResponse<String> register(@RequestBody RegisterUserRequest request){
-        userService.register(request);
-        return WebResponse.<String>builder().data("OK").build();
+    public CompletableFuture<WebResponse<String>> register(@RequestBody RegisterUserRequest request){
+        return userService.register(request)
+                .thenApply(ignored -> WebResponse.<String>builder().data("OK").build());
     }
 
     @GetMapping(
             path = "/api/users/current",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    public WebResponse<UserResponse> get(User user){
+    public WebResponse<UserResponse> get(User user, WebRequest webRequest){
+        // user sudah ada di principal cache, 304 dijawab tanpa query
+        if (webRequest.checkNotModified(ETags.of(user.getVersion()))) {
+            return null;
+        }
+
         UserResponse response = userService.get(user);
         return WebResponse.<UserResponse>builder().data(response).build();
     }
@@ -5,12 +5,19 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+// UPDATE hanya berisi kolom yang berubah
+@DynamicUpdate
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "address")
 @Table(name = "addresses")
 public class Address {
 
@@ -28,7 +35,10 @@ public class Address {
     @Column(name = "postal_code")
     private String postalCode;
 
-    @ManyToOne
+    @Version
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "contact_id", referencedColumnName = "id")
     private Contact contact;
 
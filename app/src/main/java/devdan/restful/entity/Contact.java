@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.List;
 
@@ -12,7 +15,11 @@ import java.util.List;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+// UPDATE hanya berisi kolom yang berubah
+@DynamicUpdate
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "contact")
 @Table(name = "contacts")
 public class Contact {
 
@@ -31,10 +38,14 @@ public class Contact {
 
     private String email;
 
-    @ManyToOne
+    @Version
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "username", referencedColumnName = "username")
     private User user;
 
+    // tidak di-cache: hanya dipakai join export, tidak pernah dimuat lewat getter
     @OneToMany(mappedBy = "contact")
     private List<Address> addresses;
 }
@@ -0,0 +1,49 @@
+package devdan.restful.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+
+// hanya dibaca sebagai subquery di Specification search; ditulis lewat JDBC oleh TrigramContactSearchIndex
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Immutable
+@IdClass(ContactTrigram.Key.class)
+@Table(name = "contact_trigrams")
+public class ContactTrigram {
+
+    @Id
+    @Column(name = "contact_id")
+    private String contactId;
+
+    @Id
+    @Column(length = 1)
+    @JdbcTypeCode(SqlTypes.CHAR)
+    private String field;
+
+    @Id
+    @Column(length = 3)
+    private String trigram;
+
+    private String username;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String contactId;
+        private String field;
+        private String trigram;
+    }
+}
@@ -0,0 +1,19 @@
+package devdan.restful.model.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RefreshTokenRequest {
+
+    @NotBlank
+    @Size(max = 100)
+    private String refreshToken;
+}
@@ -5,11 +5,13 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class ContactResponse {
+public class ContactExportResponse {
 
     private String id;
 
@@ -20,4 +22,6 @@ public class ContactResponse {
     private String email;
 
     private String phone;
+
+    private List<AddressResponse> addresses;
 }
@@ -15,4 +15,6 @@ public class TokenResponse {
 
     private Long expiredAt;
 
+    private String refreshToken;
+
 }
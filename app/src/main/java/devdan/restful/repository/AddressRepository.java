@@ -0,0 +1,42 @@
+package devdan.restful.repository;
+
+import devdan.restful.entity.Address;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AddressRepository extends JpaRepository<Address, String> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.address")
+    })
+    @Query("select a from Address a " +
+            "where a.id = :idAddress and a.contact.id = :idContact and a.contact.user.username = :username")
+    Optional<Address> findFirstByOwner(@Param("username") String username,
+                                       @Param("idContact") String idContact,
+                                       @Param("idAddress") String idAddress);
+
+    // tanpa query cache, sama seperti ContactRepository.findVersion
+    @Query("select a.version from Address a " +
+            "where a.id = :idAddress and a.contact.id = :idContact and a.contact.user.username = :username")
+    Optional<Long> findVersionByOwner(@Param("username") String username,
+                                      @Param("idContact") String idContact,
+                                      @Param("idAddress") String idAddress);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.address")
+    })
+    @Query("select a from Address a where a.contact.id = :idContact and a.contact.user.username = :username " +
+            "order by a.id")
+    List<Address> findAllByOwner(@Param("username") String username,
+                                 @Param("idContact") String idContact);
+}
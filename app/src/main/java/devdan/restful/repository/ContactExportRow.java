@@ -0,0 +1,17 @@
+package devdan.restful.repository;
+
+// satu baris hasil join contact + address untuk export, address bisa null semua
+public record ContactExportRow(
+        String contactId,
+        String firstName,
+        String lastName,
+        String email,
+        String phone,
+        String addressId,
+        String street,
+        String city,
+        String province,
+        String country,
+        String postalCode
+) {
+}
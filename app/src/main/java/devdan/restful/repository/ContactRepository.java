@@ -0,0 +1,46 @@
+package devdan.restful.repository;
+
+import devdan.restful.entity.Contact;
+import devdan.restful.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface ContactRepository extends JpaRepository<Contact, String>, JpaSpecificationExecutor<Contact> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.contact")
+    })
+    Optional<Contact> findFirstByUserAndId(User user, String id);
+    // query turunan dari nama method join ke users dan memfilter kolom hasil join, sehingga index contacts tidak terpakai
+    @Query("select c from Contact c where c.user.username = :username")
+    List<Contact> findAllByUserUsername(@Param("username") String username);
+    boolean existsByUserAndId(User user, String id);
+
+    // cukup untuk menjawab If-None-Match tanpa memuat entity. Sengaja tanpa query cache: versi harus dibaca
+    // dari primary (lihat ContactService.getVersion), bukan dari cache yang bisa tertinggal dari node lain
+    @Query("select c.version from Contact c where c.id = :id and c.user.username = :username")
+    Optional<Long> findVersion(@Param("username") String username, @Param("id") String id);
+
+    // kolom di luar entity (lihat V4 migration), dipakai sebagai ETag daftar address
+    @Query(value = "select addresses_version from contacts where id = :id and username = :username", nativeQuery = true)
+    Optional<Long> findAddressesVersion(@Param("username") String username, @Param("id") String id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new devdan.restful.repository.ContactExportRow(" +
+            "c.id, c.firstName, c.lastName, c.email, c.phone, " +
+            "a.id, a.street, a.city, a.province, a.country, a.postalCode) " +
+            "from Contact c left join c.addresses a " +
+            "where c.user.username = :username order by c.id")
+    Stream<ContactExportRow> streamExportRows(@Param("username") String username);
+}
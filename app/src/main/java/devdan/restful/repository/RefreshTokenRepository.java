@@ -0,0 +1,23 @@
+package devdan.restful.repository;
+
+import devdan.restful.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // jumlah baris yang terhapus menentukan siapa yang menang kalau token yang sama dipakai bersamaan
+    @Modifying
+    @Query("delete from RefreshToken r where r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
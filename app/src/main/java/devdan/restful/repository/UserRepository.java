@@ -0,0 +1,24 @@
+package devdan.restful.repository;
+
+import devdan.restful.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface UserRepository extends JpaRepository<User, String> {
+    Optional<User> findByUsername(String username);
+
+    // hanya menimpa jika hash belum diganti request lain sejak dibaca
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newPassword, u.version = u.version + 1 where u.username = :username and u.password = :oldPassword")
+    int updatePassword(@Param("username") String username,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
+}
@@ -3,11 +3,15 @@ package devdan.restful.resolver;
 import devdan.restful.config.TokenBlacklist;
 import devdan.restful.entity.User;
 import devdan.restful.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -26,6 +30,26 @@ public class JwtArgumentResolver implements HandlerMethodArgumentResolver {
     @Autowired
     private TokenBlacklist tokenBlacklist;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Timer blacklistTimer;
+    private Timer parseTimer;
+    private Timer principalTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        blacklistTimer = Timer.builder("jwt.blacklist.lookup").register(meterRegistry);
+        parseTimer = Timer.builder("jwt.token.parse").register(meterRegistry);
+        principalTimer = Timer.builder("principal.load").register(meterRegistry);
+    }
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return User.class.equals(parameter.getParameterType());
@@ -44,14 +68,17 @@ public class JwtArgumentResolver implements HandlerMethodArgumentResolver {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token missing");
         }
 
-        if (tokenBlacklist.contains(token)) {
+        if (blacklistTimer.record(() -> tokenBlacklist.contains(token))) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found");
         }
 
 
-        String username = jwtUtil.validateAndGetUsername(token);
+        String username = parseTimer.record(() -> jwtUtil.validateAndGetUsername(token));
 
-        return userRepository.findById(username)
+        // findById sendiri readOnly dan bisa diarahkan ke replica; dari replica yang tertinggal, user yang baru diubah
+        // ikut tersimpan versi lamanya di PrincipalCache sampai TTL habis. Transaksi read-write memaksanya ke primary
+        return principalTimer.record(() -> principalCache.get(username,
+                        name -> transactionTemplate.execute(status -> userRepository.findById(name))))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
     }
 }
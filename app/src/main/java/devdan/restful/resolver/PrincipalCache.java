@@ -0,0 +1,73 @@
+package devdan.restful.resolver;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import devdan.restful.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class PrincipalCache {
+
+    // eviction berdasarkan ukuran (W-TinyLFU) dan TTL diurus Caffeine, tanpa scan seluruh map
+    private final Cache<String, User> principals;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCache(@Value("${principal.cache.max-size:10000}") int maxSize,
+                          @Value("${principal.cache.ttl:60000}") long ttlMillis) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<User> get(String username, Function<String, Optional<User>> loader) {
+        User cached = principals.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(copyOf(cached));
+        }
+
+        Optional<User> user = loader.apply(username);
+        user.ifPresent(found -> principals.put(username, copyOf(found)));
+        return user;
+    }
+
+    public void invalidate(String username) {
+        if (principals.asMap().remove(username) != null) {
+            invalidations.incrementAndGet();
+        }
+    }
+
+    public long size() {
+        return principals.estimatedSize();
+    }
+
+    public long getHits() {
+        return principals.stats().hitCount();
+    }
+
+    public long getMisses() {
+        return principals.stats().missCount();
+    }
+
+    public long getEvictions() {
+        return principals.stats().evictionCount() + invalidations.get();
+    }
+
+    // entity yang di-cache tidak boleh dibagi antar request, jadi selalu kembalikan salinan
+    private static User copyOf(User user) {
+        User copy = new User();
+        copy.setUsername(user.getUsername());
+        copy.setPassword(user.getPassword());
+        copy.setName(user.getName());
+        copy.setVersion(user.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,266 @@
+package devdan.restful.service;
+
+import devdan.restful.entity.Address;
+import devdan.restful.entity.Contact;
+import devdan.restful.entity.User;
+import devdan.restful.model.request.CreateAddressRequest;
+import devdan.restful.model.request.PatchAddressRequest;
+import devdan.restful.model.request.UpdateAddressRequest;
+import devdan.restful.model.response.AddressResponse;
+import devdan.restful.repository.AddressRepository;
+import devdan.restful.repository.ContactRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class AddressService {
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private ValidationService validationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Transactional
+    public AddressResponse create(User user, CreateAddressRequest request){
+        validationService.validate(request);
+
+        Contact contact = contactRepository.findFirstByUserAndId(user, request.getIdContact())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Contact not found"));
+
+        Address address = new Address();
+        address.setId(UUID.randomUUID().toString());
+        address.setCity(request.getCity());
+        address.setStreet(request.getStreet());
+        address.setProvince(request.getProvince());
+        address.setCountry(request.getCountry());
+        address.setPostalCode(request.getPostalCode());
+        address.setContact(contact);
+
+        addressRepository.save(address);
+        bumpListVersion(contact.getId());
+        return toAddressResponse(address);
+    }
+
+    @Transactional(readOnly = true)
+    public AddressResponse get(User user, String idContact, String idAddress){
+        return toAddressResponse(findOwned(user, idContact, idAddress));
+    }
+
+    @Transactional
+    public AddressResponse update(User user, UpdateAddressRequest request){
+        validationService.validate(request);
+
+        Address current = findCached(request.getIdContact(), request.getIdAddress());
+        Map<String, String> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "street", current.getStreet(), request.getStreet());
+        putIfChanged(changes, "city", current.getCity(), request.getCity());
+        putIfChanged(changes, "province", current.getProvince(), request.getProvince());
+        putIfChanged(changes, "country", current.getCountry(), request.getCountry());
+        putIfChanged(changes, "postal_code", current.getPostalCode(), request.getPostalCode());
+        return write(user, current, request.getVersion(), changes);
+    }
+
+    @Transactional
+    public AddressResponse patch(User user, PatchAddressRequest request){
+        validationService.validate(request);
+
+        Address current = findCached(request.getIdContact(), request.getIdAddress());
+        Map<String, String> changes = new LinkedHashMap<>();
+        if (Objects.nonNull(request.getStreet())){
+            putIfChanged(changes, "street", current.getStreet(), request.getStreet());
+        }
+        if (Objects.nonNull(request.getCity())){
+            putIfChanged(changes, "city", current.getCity(), request.getCity());
+        }
+        if (Objects.nonNull(request.getProvince())){
+            putIfChanged(changes, "province", current.getProvince(), request.getProvince());
+        }
+        if (Objects.nonNull(request.getCountry())){
+            putIfChanged(changes, "country", current.getCountry(), request.getCountry());
+        }
+        if (Objects.nonNull(request.getPostalCode())){
+            putIfChanged(changes, "postal_code", current.getPostalCode(), request.getPostalCode());
+        }
+        return write(user, current, request.getVersion(), changes);
+    }
+
+    @Transactional
+    public void remove(User user, String idContact, String idAddress){
+        if (bumpListVersion(user, idContact, idAddress, null) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found");
+        }
+        jdbcTemplate.update("DELETE FROM addresses WHERE id = ?", idAddress);
+        evictAfterCommit(idAddress);
+    }
+
+    // bukan readOnly supaya dibaca dari primary (alasannya sama dengan ContactService.getVersion)
+    @Transactional
+    public Long getVersion(User user, String idContact, String idAddress){
+        return addressRepository.findVersionByOwner(user.getUsername(), idContact, idAddress)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found"));
+    }
+
+    // ETag daftar: satu lookup by PK, daftarnya sendiri tidak dimuat. Dari primary seperti getVersion
+    @Transactional
+    public Long getListVersion(User user, String idContact){
+        return contactRepository.findAddressesVersion(user.getUsername(), idContact)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Contact not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public List<AddressResponse> list(User user, String idContact){
+        List<Address> addressList = addressRepository.findAllByOwner(user.getUsername(), idContact);
+        // list kosong bisa berarti contact tidak ada, cek hanya di kasus ini
+        if (addressList.isEmpty() && !contactRepository.existsByUserAndId(user, idContact)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Contact not found");
+        }
+
+        return addressList.stream().map(AddressService::toAddressResponse).toList();
+    }
+
+    private Address findOwned(User user, String idContact, String idAddress){
+        return addressRepository.findFirstByOwner(user.getUsername(), idContact, idAddress)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found"));
+    }
+
+    private static void checkVersion(Long current, Long expected){
+        if (expected != null && !expected.equals(current)) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "ETag does not match");
+        }
+    }
+
+    // hanya lewat region entity address (lookup by PK), bukan query cache yang basi setiap ada address berubah.
+    // Kepemilikan belum dicek di sini, itu tugas statement pertama di write
+    private Address findCached(String idContact, String idAddress){
+        return addressRepository.findById(idAddress)
+                .filter(address -> address.getContact().getId().equals(idContact))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found"));
+    }
+
+    private static void putIfChanged(Map<String, String> changes, String column, String current, String value){
+        if (!Objects.equals(current, value)) {
+            changes.put(column, value);
+        }
+    }
+
+    // dua statement, tanpa SELECT dan tanpa entity: (1) kepemilikan dan versi dicek sekaligus menaikkan
+    // addresses_version, (2) UPDATE hanya kolom yang berubah. Versi yang dicek adalah versi dari cache,
+    // jadi response bisa disusun tanpa membaca ulang baris
+    private AddressResponse write(User user, Address current, Long expectedVersion, Map<String, String> changes){
+        String idContact = current.getContact().getId();
+        if (changes.isEmpty()) {
+            // tanpa perubahan tidak ada UPDATE dan versi tetap, kepemilikan tetap dicek
+            Address address = findOwned(user, idContact, current.getId());
+            checkVersion(address.getVersion(), expectedVersion);
+            return toAddressResponse(address);
+        }
+
+        boolean mismatch = expectedVersion != null && !expectedVersion.equals(current.getVersion());
+        if (mismatch || bumpListVersion(user, idContact, current.getId(), current.getVersion()) == 0) {
+            throw writeRejected(user, idContact, current.getId(), expectedVersion);
+        }
+
+        List<Object> args = new ArrayList<>(changes.values());
+        args.add(current.getId());
+        args.add(current.getVersion());
+        int updated = jdbcTemplate.update("UPDATE addresses SET " + String.join(" = ?, ", changes.keySet()) +
+                " = ?, version = version + 1 WHERE id = ? AND version = ?", args.toArray());
+        if (updated == 0) {
+            throw new ObjectOptimisticLockingFailureException(Address.class, current.getId());
+        }
+        evictAfterCommit(current.getId());
+
+        return AddressResponse.builder()
+                .id(current.getId())
+                .street(changes.getOrDefault("street", current.getStreet()))
+                .city(changes.getOrDefault("city", current.getCity()))
+                .province(changes.getOrDefault("province", current.getProvince()))
+                .country(changes.getOrDefault("country", current.getCountry()))
+                .postalCode(changes.getOrDefault("postal_code", current.getPostalCode()))
+                .version(current.getVersion() + 1)
+                .build();
+    }
+
+    // statement penjaga tidak mengenai baris: address tidak ada/bukan milik user (404), If-Match tidak cocok (412),
+    // atau versi di cache sudah tertinggal dari database (409, sama seperti optimistic lock lewat entity)
+    private RuntimeException writeRejected(User user, String idContact, String idAddress, Long expectedVersion){
+        Optional<Long> version = addressRepository.findVersionByOwner(user.getUsername(), idContact, idAddress);
+        if (version.isEmpty()) {
+            return new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found");
+        }
+        if (expectedVersion != null && !expectedVersion.equals(version.get())) {
+            return new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "ETag does not match");
+        }
+        return new ObjectOptimisticLockingFailureException(Address.class, idAddress);
+    }
+
+    // kepemilikan address (dan versinya, jika diisi) dicek di statement yang sama dengan kenaikan addresses_version.
+    // Baris contact terkunci sampai commit, jadi address ini tidak bisa ditulis penulis lain sebelum kita selesai
+    private int bumpListVersion(User user, String idContact, String idAddress, Long version){
+        String sql = "UPDATE contacts SET addresses_version = addresses_version + 1 WHERE id = ? AND username = ? " +
+                "AND EXISTS (SELECT 1 FROM addresses WHERE id = ? AND contact_id = ?";
+        if (version == null) {
+            return jdbcTemplate.update(sql + ")", idContact, user.getUsername(), idAddress, idContact);
+        }
+        return jdbcTemplate.update(sql + " AND version = ?)", idContact, user.getUsername(), idAddress, idContact, version);
+    }
+
+    // lewat JDBC, bukan entity: increment atomik di database tanpa menyentuh versi/cache entity Contact.
+    // Ikut transaksi JPA yang sedang berjalan, jadi batal bersama perubahan address-nya
+    private void bumpListVersion(String idContact){
+        jdbcTemplate.update("UPDATE contacts SET addresses_version = addresses_version + 1 WHERE id = ?", idContact);
+    }
+
+    // write lewat JDBC tidak terlihat oleh Hibernate: buang hanya entry address ini dan hasil query address.
+    // Bulk UPDATE/DELETE JPQL justru mengosongkan seluruh region address. Dilakukan setelah commit supaya
+    // pembaca lain tidak mengisi ulang cache dengan baris lama selama transaksi masih berjalan
+    private void evictAfterCommit(String idAddress){
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Address.class, idAddress);
+                entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion("query.address");
+            }
+        });
+    }
+
+    // package-private static supaya bisa diukur ResponseMapperBenchmark
+    static AddressResponse toAddressResponse(Address address){
+        return AddressResponse.builder()
+                .id(address.getId())
+                .city(address.getCity())
+                .street(address.getStreet())
+                .country(address.getCountry())
+                .province(address.getProvince())
+                .postalCode(address.getPostalCode())
+                .version(address.getVersion())
+                .build();
+    }
+}
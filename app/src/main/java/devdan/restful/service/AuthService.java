@@ -0,0 +1,128 @@
+package devdan.restful.service;
+
+import devdan.restful.config.TokenBlacklist;
+import devdan.restful.entity.User;
+import devdan.restful.model.request.LoginUserRequest;
+import devdan.restful.model.request.RefreshTokenRequest;
+import devdan.restful.model.response.TokenResponse;
+import devdan.restful.repository.UserRepository;
+import devdan.restful.resolver.JwtUtil;
+import devdan.restful.resolver.PrincipalCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class AuthService {
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ValidationService validationService;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenBlacklist tokenBlacklist;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    public CompletableFuture<TokenResponse> login(LoginUserRequest request){
+        validationService.validate(request);
+
+        User user = userRepository.findByUsername(request.getUsername())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Username or Password Wrong"));
+
+        return passwordHasher.matches(request.getPassword(), user.getPassword()).thenCompose(matches -> {
+            if (!matches){
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Username or Password Wrong");
+            }
+
+            return rehashIfNeeded(user, request.getPassword());
+        }).thenApply(ignored -> issueTokens(user));
+    }
+
+    // perpanjang sesi tanpa password: satu lookup refresh token + satu HMAC, tanpa BCrypt
+    @Transactional
+    public TokenResponse refresh(RefreshTokenRequest request){
+        validationService.validate(request);
+
+        String username = refreshTokenService.consume(request.getRefreshToken());
+        return issueTokens(userRepository.getReferenceById(username));
+    }
+
+    private TokenResponse issueTokens(User user){
+        String token = jwtUtil.generatedToken(user.getUsername());
+        Long expiredAt = jwtUtil.getExpirationTime(token);
+
+        return TokenResponse.builder()
+                .token(token)
+                .expiredAt(expiredAt)
+                .refreshToken(refreshTokenService.issue(user))
+                .build();
+    }
+
+    // password plaintext hanya tersedia saat login, jadi hash lama di-upgrade di sini
+    private CompletableFuture<Void> rehashIfNeeded(User user, String rawPassword){
+        if (!passwordHasher.needsRehash(user.getPassword())){
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            return passwordHasher.encode(rawPassword)
+                    .thenAccept(encodedPassword -> {
+                        userRepository.updatePassword(user.getUsername(), user.getPassword(), encodedPassword);
+                        principalCache.invalidate(user.getUsername());
+                    })
+                    .exceptionally(e -> {
+                        // login tetap berhasil, upgrade dicoba lagi di login berikutnya
+                        log.warn("Password rehash failed for user {}", user.getUsername(), e);
+                        return null;
+                    });
+        } catch (ResponseStatusException e) {
+            // pool hashing penuh, upgrade dicoba lagi di login berikutnya
+            log.warn("Password rehash skipped for user {}: {}", user.getUsername(), e.getReason());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    @Transactional
+    public void logout(HttpServletRequest request){
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader == null || authHeader.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token Missing");
+        }
+        // token kedaluwarsa tetap boleh logout (refresh token tetap dicabut), cukup tidak masuk blacklist
+        JwtUtil.TokenSubject subject = jwtUtil.getSubjectAllowExpired(authHeader);
+        if (subject.expiresAt() > System.currentTimeMillis()) {
+            tokenBlacklist.add(authHeader, subject.expiresAt());
+        }
+        principalCache.invalidate(subject.username());
+
+        String refreshToken = request.getHeader("X-Refresh-Token");
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+
+}
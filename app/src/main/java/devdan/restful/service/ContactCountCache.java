@@ -0,0 +1,61 @@
+package devdan.restful.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// total hasil search untuk mode count=estimate, di region JCache "contact.count" (ukuran & TTL di ehcache.xml).
+// Satu entry per user berisi map filter -> total, supaya semua filter milik user bisa dibuang sekaligus saat contact berubah
+@Component
+public class ContactCountCache {
+
+    // batas filter berbeda yang disimpan per user
+    static final int MAX_FILTERS_PER_USER = 100;
+
+    private final Cache<Object, Object> counts;
+
+    public ContactCountCache(CacheManager jcacheManager) {
+        this.counts = jcacheManager.getCache("contact.count");
+    }
+
+    @SuppressWarnings("unchecked")
+    public long get(String username, String filter, LongSupplier counter) {
+        Map<String, Long> cached = (Map<String, Long>) counts.get(username);
+        Long total = cached != null ? cached.get(filter) : null;
+        if (total != null) {
+            return total;
+        }
+
+        long counted = counter.getAsLong();
+        // value immutable dan ditulis dengan compare-and-set; kalau kalah balapan cukup tidak di-cache
+        if (cached == null) {
+            counts.putIfAbsent(username, Map.of(filter, counted));
+        } else if (cached.size() < MAX_FILTERS_PER_USER) {
+            Map<String, Long> next = new HashMap<>(cached);
+            next.put(filter, counted);
+            counts.replace(username, cached, Map.copyOf(next));
+        }
+        return counted;
+    }
+
+    // dipanggil setiap kali contact user dibuat/diubah/dihapus; di dalam transaksi baru dibuang setelah commit
+    public void invalidate(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counts.remove(username);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counts.remove(username);
+            }
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package devdan.restful.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// cursor opaque untuk keyset pagination contact, isinya (firstName, id) dari baris terakhir
+public final class ContactCursor {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private ContactCursor() {
+    }
+
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset positions can be encoded");
+        }
+
+        Map<String, Object> keys = keyset.getKeys();
+        String raw = keys.get("firstName") + String.valueOf(SEPARATOR) + keys.get("id");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("firstName", raw.substring(0, separator));
+            keys.put("id", raw.substring(separator + 1));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package devdan.restful.service;
+
+import devdan.restful.entity.Contact;
+import devdan.restful.entity.User;
+import devdan.restful.model.request.SearchContactRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+public interface ContactSearchIndex {
+
+    // predicate tambahan yang mempersempit kandidat sebelum LIKE; null berarti tanpa index (LIKE saja)
+    Specification<Contact> candidates(User user, SearchContactRequest request);
+
+    void index(Contact contact);
+
+    default void indexAll(Collection<Contact> contacts) {
+        contacts.forEach(this::index);
+    }
+
+    void remove(String contactId);
+}
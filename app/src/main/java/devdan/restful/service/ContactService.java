@@ -0,0 +1,426 @@
+package devdan.restful.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devdan.restful.entity.Contact;
+import devdan.restful.entity.User;
+import devdan.restful.model.response.AddressResponse;
+import devdan.restful.model.response.BulkContactResponse;
+import devdan.restful.model.response.ContactExportResponse;
+import devdan.restful.model.response.ContactResponse;
+import devdan.restful.model.request.CreateContactRequest;
+import devdan.restful.model.request.PatchContactRequest;
+import devdan.restful.model.request.SearchContactRequest;
+import devdan.restful.model.request.UpdateContactRequest;
+import devdan.restful.repository.ContactExportRow;
+import devdan.restful.repository.ContactRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+public class ContactService {
+
+    // bukan backslash: di MySQL backslash di literal ESCAPE '\' ikut diperlakukan sebagai escape string
+    private static final char LIKE_ESCAPE = '!';
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private ValidationService validationService;
+
+    @Autowired
+    private ContactCountCache contactCountCache;
+
+    @Autowired
+    private ContactSearchIndex contactSearchIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${contact.bulk.chunk-size:500}")
+    private int bulkChunkSize;
+
+    @Transactional
+    public ContactResponse create(User user, CreateContactRequest request){
+        validationService.validate(request);
+
+        Contact contact = new Contact();
+        contact.setId(UUID.randomUUID().toString());
+        contact.setFirstName(request.getFirstname());
+        contact.setLastName(request.getLastname());
+        contact.setEmail(request.getEmail());
+        contact.setPhone(request.getPhone());
+        contact.setUser(user);
+
+        contactRepository.save(contact);
+        contactSearchIndex.index(contact);
+        contactCountCache.invalidate(user.getUsername());
+        return toContactResponse(contact);
+    }
+
+    // body berupa JSON array atau NDJSON, dibaca streaming dan disimpan per chunk dalam transaksi terpisah
+    public List<BulkContactResponse> bulkCreate(User user, InputStream body) throws IOException {
+        List<BulkContactResponse> results = new ArrayList<>();
+        List<CreateContactRequest> chunk = new ArrayList<>();
+
+        try (MappingIterator<CreateContactRequest> items = objectMapper.readerFor(CreateContactRequest.class).readValues(body)) {
+            while (items.hasNextValue()) {
+                chunk.add(items.nextValue());
+                if (chunk.size() >= bulkChunkSize) {
+                    results.addAll(insertChunk(user, chunk, results.size()));
+                    chunk.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            results.addAll(insertChunk(user, chunk, results.size()));
+            results.add(BulkContactResponse.builder()
+                    .index(results.size())
+                    .errors("Malformed JSON: " + e.getOriginalMessage())
+                    .build());
+            return results;
+        }
+
+        results.addAll(insertChunk(user, chunk, results.size()));
+        return results;
+    }
+
+    private List<BulkContactResponse> insertChunk(User user, List<CreateContactRequest> chunk, int offset){
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+
+        return transactionTemplate.execute(status -> {
+            // reference saja, supaya persist tidak perlu mengecek user ke database
+            User owner = entityManager.getReference(User.class, user.getUsername());
+            List<BulkContactResponse> results = new ArrayList<>(chunk.size());
+            List<Contact> persisted = new ArrayList<>(chunk.size());
+
+            for (int i = 0; i < chunk.size(); i++) {
+                CreateContactRequest request = chunk.get(i);
+                try {
+                    validationService.validate(request);
+                } catch (ConstraintViolationException e) {
+                    results.add(BulkContactResponse.builder().index(offset + i).errors(e.getMessage()).build());
+                    continue;
+                }
+
+                Contact contact = new Contact();
+                contact.setId(UUID.randomUUID().toString());
+                contact.setFirstName(request.getFirstname());
+                contact.setLastName(request.getLastname());
+                contact.setEmail(request.getEmail());
+                contact.setPhone(request.getPhone());
+                contact.setUser(owner);
+
+                entityManager.persist(contact);
+                persisted.add(contact);
+                results.add(BulkContactResponse.builder().index(offset + i).id(contact.getId()).build());
+            }
+            contactSearchIndex.indexAll(persisted);
+            contactCountCache.invalidate(user.getUsername());
+
+            entityManager.flush();
+            entityManager.clear();
+            return results;
+        });
+    }
+
+    // export semua contact + address milik user, dibaca dengan cursor forward-only supaya memory tetap konstan
+    @Transactional(readOnly = true)
+    public void export(User user, String format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        boolean csv = "csv".equals(format);
+        if (csv) {
+            writer.write("contact_id,firstname,lastname,email,phone,address_id,street,city,province,country,postal_code\n");
+        }
+
+        try (Stream<ContactExportRow> rows = contactRepository.streamExportRows(user.getUsername())) {
+            ContactExportResponse current = null;
+            for (ContactExportRow row : (Iterable<ContactExportRow>) rows::iterator) {
+                if (csv) {
+                    writeCsvRow(writer, row);
+                    continue;
+                }
+
+                if (current == null || !current.getId().equals(row.contactId())) {
+                    writeJsonLine(writer, current);
+                    current = ContactExportResponse.builder()
+                            .id(row.contactId())
+                            .firstname(row.firstName())
+                            .lastname(row.lastName())
+                            .email(row.email())
+                            .phone(row.phone())
+                            .addresses(new ArrayList<>())
+                            .build();
+                }
+                if (row.addressId() != null) {
+                    current.getAddresses().add(AddressResponse.builder()
+                            .id(row.addressId())
+                            .street(row.street())
+                            .city(row.city())
+                            .province(row.province())
+                            .country(row.country())
+                            .postalCode(row.postalCode())
+                            .build());
+                }
+            }
+            writeJsonLine(writer, current);
+        }
+        writer.flush();
+    }
+
+    private void writeJsonLine(Writer writer, ContactExportResponse contact) throws IOException {
+        if (contact == null) {
+            return;
+        }
+        writer.write(objectMapper.writeValueAsString(contact));
+        writer.write('\n');
+    }
+
+    private void writeCsvRow(Writer writer, ContactExportRow row) throws IOException {
+        String[] values = {row.contactId(), row.firstName(), row.lastName(), row.email(), row.phone(),
+                row.addressId(), row.street(), row.city(), row.province(), row.country(), row.postalCode()};
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    @Transactional(readOnly = true)
+    public ContactResponse get(User user, String id){
+        Contact contact = contactRepository.findFirstByUserAndId(user, id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "contact not found"));
+
+        return toContactResponse(contact);
+    }
+
+    // sengaja bukan readOnly: versi untuk If-None-Match dibaca dari primary, replica yang tertinggal bisa
+    // mengembalikan versi lama sehingga client dapat 304 untuk data yang sudah berubah
+    @Transactional
+    public Long getVersion(User user, String id){
+        return contactRepository.findVersion(user.getUsername(), id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "contact not found"));
+    }
+
+    @Transactional
+    public ContactResponse update(User user, UpdateContactRequest request){
+        validationService.validate(request);
+
+        Contact contact = contactRepository.findFirstByUserAndId(user, request.getId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "contact not found"));
+        checkVersion(contact.getVersion(), request.getVersion());
+
+        contact.setFirstName(request.getFirstname());
+        contact.setLastName(request.getLastname());
+        contact.setEmail(request.getEmail());
+        contact.setPhone(request.getPhone());
+        return saveAndIndex(contact);
+    }
+
+    @Transactional
+    public ContactResponse patch(User user, PatchContactRequest request){
+        validationService.validate(request);
+
+        Contact contact = contactRepository.findFirstByUserAndId(user, request.getId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "contact not found"));
+        checkVersion(contact.getVersion(), request.getVersion());
+
+        if (Objects.nonNull(request.getFirstname())){
+            contact.setFirstName(request.getFirstname());
+        }
+        if (Objects.nonNull(request.getLastname())){
+            contact.setLastName(request.getLastname());
+        }
+        if (Objects.nonNull(request.getEmail())){
+            contact.setEmail(request.getEmail());
+        }
+        if (Objects.nonNull(request.getPhone())){
+            contact.setPhone(request.getPhone());
+        }
+        return saveAndIndex(contact);
+    }
+
+    // flush supaya versi di response sudah versi baru; tanpa perubahan field tidak ada UPDATE sama sekali
+    private ContactResponse saveAndIndex(Contact contact){
+        contactRepository.saveAndFlush(contact);
+        contactSearchIndex.index(contact);
+        // nama/email/phone bisa berubah, total per filter ikut berubah
+        contactCountCache.invalidate(contact.getUser().getUsername());
+        return toContactResponse(contact);
+    }
+
+    private static void checkVersion(Long current, Long expected){
+        if (expected != null && !expected.equals(current)) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "ETag does not match");
+        }
+    }
+
+    @Transactional
+    public void delete(User user, String idContact){
+        Contact contact = contactRepository.findFirstByUserAndId(user, idContact)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "contact not found"));
+
+        contactRepository.delete(contact);
+        contactSearchIndex.remove(contact.getId());
+        contactCountCache.invalidate(user.getUsername());
+    }
+
+    // package-private static supaya bisa diukur ResponseMapperBenchmark
+    static ContactResponse toContactResponse(Contact contact){
+        return ContactResponse.builder()
+                .id(contact.getId())
+                .firstname(contact.getFirstName())
+                .lastname(contact.getLastName())
+                .email(contact.getEmail())
+                .phone(contact.getPhone())
+                .version(contact.getVersion())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ContactResponse> search (User user, SearchContactRequest request){
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
+        String count = Objects.requireNonNullElse(request.getCount(), "exact");
+        if (!List.of("exact", "estimate", "none").contains(count)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid count mode");
+        }
+
+        // waktu query specification per mode count, termasuk COUNT(*) jika ada
+        Specification<Contact> specification = searchSpecification(user, request);
+        return meterRegistry.timer("contact.search", "count", count)
+                .record(() -> searchBySpecification(user, request, specification, pageable, count));
+    }
+
+    private Slice<ContactResponse> searchBySpecification(User user, SearchContactRequest request,
+                                                         Specification<Contact> specification,
+                                                         Pageable pageable, String count){
+        switch (count) {
+            case "exact" -> {
+                Page<Contact> contacts = contactRepository.findAll(specification, pageable);
+                List<ContactResponse> contactResponses = contacts.getContent().stream()
+                        .map(ContactService::toContactResponse).toList();
+
+                return new PageImpl<>(contactResponses, pageable, contacts.getTotalElements());
+            }
+            case "estimate" -> {
+                Slice<Contact> contacts = contactRepository.findBy(specification, query -> query.slice(pageable));
+                long total = contactCountCache.get(user.getUsername(), countKey(request),
+                        () -> contactRepository.count(specification));
+                List<ContactResponse> contactResponses = contacts.getContent().stream()
+                        .map(ContactService::toContactResponse).toList();
+
+                return new PageImpl<>(contactResponses, pageable, total);
+            }
+            case "none" -> {
+                Slice<Contact> contacts = contactRepository.findBy(specification, query -> query.slice(pageable));
+                return contacts.map(ContactService::toContactResponse);
+            }
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid count mode");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Window<ContactResponse> searchByCursor(User user, SearchContactRequest request){
+        Window<Contact> contacts = contactRepository.findBy(searchSpecification(user, request), query -> query
+                .sortBy(Sort.by("firstName", "id"))
+                .limit(request.getSize())
+                .scroll(ContactCursor.decode(request.getCursor())));
+
+        return contacts.map(ContactService::toContactResponse);
+    }
+
+    private String countKey(SearchContactRequest request){
+        return String.join("\u0000",
+                Objects.toString(request.getName(), ""),
+                Objects.toString(request.getEmail(), ""),
+                Objects.toString(request.getPhone(), ""));
+    }
+
+    private Specification<Contact> searchSpecification(User user, SearchContactRequest request){
+        Specification<Contact> like = (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(builder.equal(root.get("user"), user));
+
+            if (Objects.nonNull(request.getName())){
+                predicates.add(builder.or(
+                        builder.like(root.get("firstName"), contains(request.getName()), LIKE_ESCAPE),
+                        builder.like(root.get("lastName"), contains(request.getName()), LIKE_ESCAPE)
+                ));
+            }
+
+            if (Objects.nonNull(request.getEmail())){
+                predicates.add(builder.like(root.get("email"), contains(request.getEmail()), LIKE_ESCAPE));
+            }
+
+            if (Objects.nonNull(request.getPhone())){
+                predicates.add(builder.like(root.get("phone"), contains(request.getPhone()), LIKE_ESCAPE));
+            }
+
+            return builder.and(predicates.toArray(new Predicate[]{}));
+        };
+
+        Specification<Contact> candidates = contactSearchIndex.candidates(user, request);
+        return candidates == null ? like : like.and(candidates);
+    }
+
+    // % dan _ dari input dicari apa adanya, bukan wildcard
+    private static String contains(String term){
+        String escaped = term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,26 @@
+package devdan.restful.service;
+
+import devdan.restful.entity.Contact;
+import devdan.restful.entity.User;
+import devdan.restful.model.request.SearchContactRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "contact.search.index", havingValue = "database", matchIfMissing = true)
+public class DatabaseContactSearchIndex implements ContactSearchIndex {
+
+    @Override
+    public Specification<Contact> candidates(User user, SearchContactRequest request) {
+        return null;
+    }
+
+    @Override
+    public void index(Contact contact) {
+    }
+
+    @Override
+    public void remove(String contactId) {
+    }
+}
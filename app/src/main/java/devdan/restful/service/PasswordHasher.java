@@ -0,0 +1,128 @@
+package devdan.restful.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// hashing password (BCrypt) dijalankan di pool sendiri yang dibatasi, bukan di thread Tomcat.
+// Lanjutan (query DB, issue token) pindah ke applicationTaskExecutor supaya thread hashing tidak ikut menunggu DB
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Executor completionExecutor;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final LongAdder rejected = new LongAdder();
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Qualifier("applicationTaskExecutor") Executor completionExecutor,
+                          @Value("${password.hashing.threads:0}") int threads,
+                          @Value("${password.hashing.queue-capacity:100}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.completionExecutor = completionExecutor;
+        this.encodeTimer = Timer.builder("password.hash").tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash").tag("operation", "matches").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait").register(meterRegistry);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        FunctionCounter.builder("password.hash.rejected", rejected, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", this, PasswordHasher::getQueueDepth).register(meterRegistry);
+        Gauge.builder("password.hash.active", this, PasswordHasher::getActiveThreads).register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // untuk pemanggil sinkron: exception asli (mis. 503 pool penuh) dilempar apa adanya, bukan CompletionException
+    public String encodeAndWait(String rawPassword) {
+        try {
+            return encode(rawPassword).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // cukup parsing prefix/parameter hash, tidak perlu masuk pool
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.record(task);
+            }, executor).thenApplyAsync(Function.identity(), completionExecutor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Server busy, try again later");
+        }
+    }
+
+    public long getHashes() {
+        return encodeTimer.count() + matchesTimer.count();
+    }
+
+    public long getHashNanos() {
+        return (long) (encodeTimer.totalTime(TimeUnit.NANOSECONDS) + matchesTimer.totalTime(TimeUnit.NANOSECONDS));
+    }
+
+    public long getQueueWaitNanos() {
+        return (long) queueWaitTimer.totalTime(TimeUnit.NANOSECONDS);
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveThreads() {
+        return executor.getActiveCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,68 @@
+package devdan.restful.service;
+
+import devdan.restful.config.TokenDigests;
+import devdan.restful.entity.RefreshToken;
+import devdan.restful.entity.User;
+import devdan.restful.repository.RefreshTokenRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh-expiration:2592000000}")
+    private long refreshExpirationMillis;
+
+    // token opaque, dikembalikan ke client satu kali saja
+    public String issue(User user){
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = BASE64_URL.encodeToString(bytes);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(TokenDigests.sha256(token));
+        refreshToken.setUser(user);
+        refreshToken.setExpiresAt(System.currentTimeMillis() + refreshExpirationMillis);
+        refreshTokenRepository.save(refreshToken);
+
+        return token;
+    }
+
+    // token lama langsung hangus, yang dikembalikan adalah username pemiliknya
+    @Transactional
+    public String consume(String token){
+        String tokenHash = TokenDigests.sha256(token);
+        RefreshToken refreshToken = refreshTokenRepository.findById(tokenHash)
+                .filter(found -> found.getExpiresAt() > System.currentTimeMillis())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token"));
+
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        return refreshToken.getUser().getUsername();
+    }
+
+    @Transactional
+    public void revoke(String token){
+        refreshTokenRepository.deleteByTokenHash(TokenDigests.sha256(token));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval:3600000}")
+    public void purgeExpired(){
+        refreshTokenRepository.deleteExpired(System.currentTimeMillis());
+    }
+}
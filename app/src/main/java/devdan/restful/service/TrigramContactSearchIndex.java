@@ -0,0 +1,233 @@
+package devdan.restful.service;
+
+import devdan.restful.entity.Contact;
+import devdan.restful.entity.ContactTrigram;
+import devdan.restful.entity.User;
+import devdan.restful.model.request.SearchContactRequest;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+// index trigram di tabel contact_trigrams (lihat V5 dan V6 migration): dibagi semua node, ikut transaksi contact,
+// dibaca dari database yang sama dengan query search. Trigram hanya menyaring kandidat lewat subquery,
+// LIKE di ContactService tetap menentukan hasil, jadi tidak ada hasil palsu. Tapi trigram dibuat dengan
+// toLowerCase Java, bukan collation kolom: jika keduanya berbeda (mis. "İ" jadi dua code point, atau collation
+// yang menyamakan "ß" dengan "ss") contact yang cocok lewat LIKE bisa tersaring dan tidak muncul di hasil
+@Component
+@ConditionalOnProperty(name = "contact.search.index", havingValue = "trigram")
+public class TrigramContactSearchIndex implements ContactSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TrigramContactSearchIndex.class);
+
+    static final String NAME = "n";
+    static final String EMAIL = "e";
+    static final String PHONE = "p";
+
+    // trigram paling jarang per term; dua sudah cukup menyaring, subquery berikutnya hanya menambah biaya planner
+    static final int TRIGRAMS_PER_TERM = 2;
+    // trigram yang muncul di lebih dari 5% contact (mis. "con" dari "contact", "exa" dari "example") tidak menyaring.
+    // Semi-join ke daftar panjang itu jauh lebih lambat dari LIKE biasa, jadi term seperti ini tidak memakai index
+    static final double MAX_POSTINGS_SHARE = 0.05;
+    static final long MIN_SKIP_POSTINGS = 1000;
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    // posting yang sudah ada diabaikan: backfill dari node lain atau trigram yang sama menurut collation
+    static final String INSERT = "INSERT INTO contact_trigrams (username, field, trigram, contact_id) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE contact_id = contact_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // contact yang dibuat sebelum index diaktifkan belum punya trigram; sampai backfill selesai search memakai LIKE saja
+    private volatile boolean ready;
+    private volatile TrigramStats stats = new TrigramStats(Map.of(), 0);
+    // lock, bukan synchronized: catch-up membaca dan menulis lewat JDBC (sama dengan TokenBlacklist.refreshLock)
+    private final ReentrantLock catchUpLock = new ReentrantLock();
+
+    @Override
+    public Specification<Contact> candidates(User user, SearchContactRequest request) {
+        if (!ready) {
+            return null;
+        }
+
+        TrigramStats current = stats;
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addCandidates(predicates, NAME, current.select(NAME, request.getName()), user, root, query, builder);
+            addCandidates(predicates, EMAIL, current.select(EMAIL, request.getEmail()), user, root, query, builder);
+            addCandidates(predicates, PHONE, current.select(PHONE, request.getPhone()), user, root, query, builder);
+            return predicates.isEmpty() ? null : builder.and(predicates.toArray(new Predicate[]{}));
+        };
+    }
+
+    private static void addCandidates(List<Predicate> predicates, String field, List<String> trigrams, User user,
+                                      Root<Contact> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        for (String trigram : trigrams) {
+            Subquery<String> subquery = query.subquery(String.class);
+            Root<ContactTrigram> trigramRoot = subquery.from(ContactTrigram.class);
+            subquery.select(trigramRoot.get("contactId")).where(
+                    builder.equal(trigramRoot.get("username"), user.getUsername()),
+                    builder.equal(trigramRoot.get("field"), field),
+                    builder.equal(trigramRoot.get("trigram"), trigram));
+            predicates.add(root.get("id").in(subquery));
+        }
+    }
+
+    @Override
+    public void index(Contact contact) {
+        indexAll(List.of(contact));
+    }
+
+    // dipanggil di dalam transaksi penulisan contact, jadi commit/rollback bersama
+    @Override
+    public void indexAll(Collection<Contact> contacts) {
+        if (contacts.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate("DELETE FROM contact_trigrams WHERE contact_id = ?",
+                contacts.stream().map(contact -> new Object[]{contact.getId()}).toList());
+        List<Object[]> rows = new ArrayList<>();
+        for (Contact contact : contacts) {
+            addRows(rows, contact.getUser().getUsername(), contact.getId(),
+                    contact.getFirstName(), contact.getLastName(), contact.getEmail(), contact.getPhone());
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    @Override
+    public void remove(String contactId) {
+        jdbcTemplate.update("DELETE FROM contact_trigrams WHERE contact_id = ?", contactId);
+    }
+
+    // saat startup: isi trigram untuk contact yang belum punya (mis. dibuat sebelum index diaktifkan).
+    // Dijalankan setelah aplikasi menerima request; selama itu search tetap benar lewat LIKE saja
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int contacts;
+        catchUpLock.lock();
+        try {
+            contacts = catchUp();
+        } finally {
+            catchUpLock.unlock();
+        }
+        refreshStats();
+        ready = true;
+        log.info("Contact trigram index ready, backfilled {} contacts", contacts);
+    }
+
+    // berkala: contact yang ditulis di luar ContactService (import langsung ke database, aplikasi lain) tidak punya
+    // trigram dan tidak akan muncul di search sampai diisi di sini. Contact yang diubah di luar ContactService
+    // tidak terdeteksi; hapus trigram-nya supaya diisi ulang
+    @Scheduled(fixedDelayString = "${contact.search.trigram.catch-up-interval:600000}",
+            initialDelayString = "${contact.search.trigram.catch-up-interval:600000}")
+    public void scheduledCatchUp() {
+        // backfill startup di data besar bisa lebih lama dari interval; jangan mengerjakan contact yang sama dua kali
+        if (!catchUpLock.tryLock()) {
+            return;
+        }
+        int contacts;
+        try {
+            contacts = catchUp();
+        } finally {
+            catchUpLock.unlock();
+        }
+        if (contacts > 0) {
+            log.info("Indexed trigrams of {} contacts written outside ContactService", contacts);
+        }
+    }
+
+    private int catchUp() {
+        List<Object[]> rows = new ArrayList<>();
+        int[] contacts = {0};
+        jdbcTemplate.query("SELECT c.id, c.username, c.first_name, c.last_name, c.email, c.phone FROM contacts c " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM contact_trigrams t WHERE t.contact_id = c.id)",
+                resultSet -> {
+                    addRows(rows, resultSet.getString("username"), resultSet.getString("id"),
+                            resultSet.getString("first_name"), resultSet.getString("last_name"),
+                            resultSet.getString("email"), resultSet.getString("phone"));
+                    contacts[0]++;
+                    if (rows.size() >= BACKFILL_BATCH_SIZE) {
+                        jdbcTemplate.batchUpdate(INSERT, rows);
+                        rows.clear();
+                    }
+                });
+        jdbcTemplate.batchUpdate(INSERT, rows);
+        return contacts[0];
+    }
+
+    // jumlah posting per trigram untuk semua user (bukan per user), cukup untuk mengurutkan mana yang jarang.
+    // Trigram baru yang belum ada di statistik dianggap jarang
+    @Scheduled(fixedDelayString = "${contact.search.trigram.stats-refresh-interval:3600000}",
+            initialDelayString = "${contact.search.trigram.stats-refresh-interval:3600000}")
+    public void refreshStats() {
+        Map<String, Long> postings = new HashMap<>();
+        jdbcTemplate.query("SELECT field, trigram, COUNT(*) FROM contact_trigrams GROUP BY field, trigram",
+                resultSet -> {
+                    postings.put(resultSet.getString(1) + resultSet.getString(2), resultSet.getLong(3));
+                });
+        Long contacts = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM contacts", Long.class);
+        stats = new TrigramStats(Map.copyOf(postings), contacts == null ? 0 : contacts);
+    }
+
+    private static void addRows(List<Object[]> rows, String username, String contactId,
+                                String firstName, String lastName, String email, String phone) {
+        Set<String> names = new LinkedHashSet<>(trigrams(firstName));
+        names.addAll(trigrams(lastName));
+        names.forEach(trigram -> rows.add(new Object[]{username, NAME, trigram, contactId}));
+        trigrams(email).forEach(trigram -> rows.add(new Object[]{username, EMAIL, trigram, contactId}));
+        trigrams(phone).forEach(trigram -> rows.add(new Object[]{username, PHONE, trigram, contactId}));
+    }
+
+    // per code point (bukan char) supaya trigram tidak memotong surrogate pair; huruf kecil, karena LIKE di
+    // collation MySQL default case-insensitive. Term < 3 karakter tidak punya trigram dan tidak menyaring apa pun
+    static Set<String> trigrams(String value) {
+        if (value == null) {
+            return Set.of();
+        }
+
+        int[] codePoints = value.toLowerCase(Locale.ROOT).codePoints().toArray();
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= codePoints.length; i++) {
+            trigrams.add(new String(codePoints, i, 3));
+        }
+        return trigrams;
+    }
+
+    record TrigramStats(Map<String, Long> postings, long contacts) {
+
+        // trigram term diurutkan dari yang paling jarang; kosong jika term tidak punya trigram yang menyaring
+        List<String> select(String field, String term) {
+            if (term == null) {
+                return List.of();
+            }
+
+            List<String> trigrams = new ArrayList<>(trigrams(term));
+            trigrams.sort(Comparator.comparingLong(trigram -> postings(field, trigram)));
+            long maxPostings = Math.max(MIN_SKIP_POSTINGS, (long) (contacts * MAX_POSTINGS_SHARE));
+            if (trigrams.isEmpty() || postings(field, trigrams.get(0)) > maxPostings) {
+                return List.of();
+            }
+            return List.copyOf(trigrams.subList(0, Math.min(TRIGRAMS_PER_TERM, trigrams.size())));
+        }
+
+        private long postings(String field, String trigram) {
+            return postings.getOrDefault(field + trigram, 0L);
+        }
+    }
+}
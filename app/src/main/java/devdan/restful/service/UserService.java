@@ -0,0 +1,117 @@
+package devdan.restful.service;
+
+import devdan.restful.entity.User;
+import devdan.restful.model.request.RegisterUserRequest;
+import devdan.restful.model.request.UpdateUserRequest;
+import devdan.restful.model.response.UserResponse;
+import devdan.restful.repository.UserRepository;
+import devdan.restful.resolver.PrincipalCache;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class UserService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private ValidationService validationService;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    public CompletableFuture<Void> register(RegisterUserRequest request){
+        validationService.validate(request);
+
+        // cek awal hanya supaya BCrypt tidak dijalankan sia-sia; yang menjamin keunikan adalah primary key
+        if (userRepository.existsById(request.getUsername())){
+            throw usernameTaken();
+        }
+
+        return passwordHasher.encode(request.getPassword()).thenAccept(encodedPassword -> {
+            User user = new User();
+            user.setUsername(request.getUsername());
+            user.setPassword(encodedPassword);
+            user.setName(request.getName());
+
+            try {
+                userRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                // register bersamaan dengan username yang sama: yang kalah ditolak oleh constraint PK
+                throw usernameTaken();
+            }
+        });
+    }
+
+    private static ResponseStatusException usernameTaken(){
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "Username already registered");
+    }
+
+    public UserResponse get(User user){
+        return UserResponse.builder()
+                .username(user.getUsername())
+                .name(user.getName())
+                .build();
+    }
+
+    public UserResponse update(User user, UpdateUserRequest request){
+        validationService.validate(request);
+
+        // BCrypt dijalankan sebelum transaksi dibuka, jadi koneksi DB tidak ditahan selama hashing
+        String encodedPassword = Objects.nonNull(request.getPassword())
+                ? passwordHasher.encodeAndWait(request.getPassword())
+                : null;
+
+        return transactionTemplate.execute(status -> updateCurrent(user, request, encodedPassword));
+    }
+
+    private UserResponse updateCurrent(User user, UpdateUserRequest request, String encodedPassword){
+        // principal bisa berasal dari cache (versi lama), jadi ubah entity yang baru dibaca
+        User current = userRepository.findById(user.getUsername())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
+        if (Objects.nonNull(request.getName())){
+            current.setName(request.getName());
+        }
+        if (Objects.nonNull(encodedPassword)){
+            current.setPassword(encodedPassword);
+        }
+
+        userRepository.save(current);
+        invalidateAfterCommit(current.getUsername());
+
+        return UserResponse.builder()
+                .name(current.getName())
+                .username(current.getUsername())
+                .build();
+    }
+
+    // invalidate sebelum commit membuka celah: request lain bisa memuat ulang data lama ke cache
+    private void invalidateAfterCommit(String username){
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                principalCache.invalidate(username);
+            }
+        });
+    }
+}
@@ -0,0 +1,53 @@
+-- skema awal, sama dengan hasil akhir database.sql (kolom contacts mengikuti entity: first_name, last_name).
+-- Database yang sudah dibuat manual dari database.sql di-baseline di versi ini (spring.flyway.baseline-on-migrate)
+
+CREATE TABLE users (
+    username VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (username)
+);
+
+CREATE TABLE contacts (
+    id VARCHAR(100) NOT NULL,
+    username VARCHAR(100) NOT NULL,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100),
+    phone VARCHAR(100),
+    email VARCHAR(100),
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_users_contact FOREIGN KEY (username) REFERENCES users (username)
+);
+
+CREATE TABLE addresses (
+    id VARCHAR(100) NOT NULL,
+    contact_id VARCHAR(100) NOT NULL,
+    country VARCHAR(100) NOT NULL,
+    street VARCHAR(100),
+    city VARCHAR(100),
+    province VARCHAR(100),
+    postal_code VARCHAR(10),
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_contacts_addresses FOREIGN KEY (contact_id) REFERENCES contacts (id)
+);
+
+CREATE TABLE revoked_tokens (
+    token_hash CHAR(64) NOT NULL,
+    expires_at BIGINT NOT NULL,
+    PRIMARY KEY (token_hash)
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
+CREATE TABLE refresh_tokens (
+    token_hash CHAR(64) NOT NULL,
+    username VARCHAR(100) NOT NULL,
+    expires_at BIGINT NOT NULL,
+    PRIMARY KEY (token_hash),
+    CONSTRAINT fk_refresh_tokens_users FOREIGN KEY (username) REFERENCES users (username) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
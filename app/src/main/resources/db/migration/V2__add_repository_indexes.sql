@@ -0,0 +1,12 @@
+-- index untuk finder di ContactRepository/AddressRepository, diperiksa RepositoryIndexTest lewat EXPLAIN.
+-- Di MySQL index otomatis dari foreign key (username, contact_id) ikut terhapus karena digantikan index ini
+
+-- findFirstByUserAndId, existsByUserAndId, findVersion, streamExportRows (order by id)
+CREATE INDEX idx_contacts_username_id ON contacts (username, id);
+
+-- search: filter username lalu LIKE di kolom ini dibaca dari index tanpa membaca baris tabel,
+-- sekaligus urutan (first_name, id) untuk pagination cursor (id ikut di setiap secondary index InnoDB)
+CREATE INDEX idx_contacts_search ON contacts (username, first_name, last_name, email, phone);
+
+-- findFirstByOwner, findVersionByOwner, findAllByOwner (order by id)
+CREATE INDEX idx_addresses_contact_id_id ON addresses (contact_id, id);
@@ -0,0 +1,5 @@
+-- waktu revoke, dipakai TokenBlacklist untuk refresh bloom filter secara inkremental (watermark)
+-- tanpa membaca ulang seluruh tabel. Baris lama diberi 0 sehingga ikut terbaca di rebuild penuh berikutnya
+ALTER TABLE revoked_tokens ADD COLUMN revoked_at BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
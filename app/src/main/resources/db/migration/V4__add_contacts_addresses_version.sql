@@ -0,0 +1,3 @@
+-- versi daftar address per contact, naik setiap ada address yang dibuat/diubah/dihapus.
+-- Sumber ETag GET /api/contacts/{id}/addresses tanpa memuat daftarnya (tidak dipetakan ke entity Contact)
+ALTER TABLE contacts ADD COLUMN addresses_version BIGINT NOT NULL DEFAULT 0;
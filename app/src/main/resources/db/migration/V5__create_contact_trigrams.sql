@@ -0,0 +1,15 @@
+-- index trigram untuk search name/email/phone (contact.search.index=trigram), ditulis di transaksi yang sama
+-- dengan perubahan contact. Hanya mempersempit kandidat; hasil akhir tetap ditentukan LIKE di tabel contacts.
+-- Tanpa primary key/unique: di collation case/accent-insensitive dua trigram berbeda bisa dianggap sama.
+-- Tanpa foreign key: trigram ditulis lewat JDBC sebelum Hibernate flush INSERT contact-nya; baris yatim
+-- tidak berpengaruh ke hasil (selalu di-join ke contacts) dan dibersihkan saat contact dihapus/diubah
+CREATE TABLE contact_trigrams (
+    username VARCHAR(100) NOT NULL,
+    field CHAR(1) NOT NULL,
+    trigram VARCHAR(3) NOT NULL,
+    contact_id VARCHAR(100) NOT NULL
+);
+
+CREATE INDEX idx_contact_trigrams_lookup ON contact_trigrams (username, field, trigram, contact_id);
+
+CREATE INDEX idx_contact_trigrams_contact_id ON contact_trigrams (contact_id);
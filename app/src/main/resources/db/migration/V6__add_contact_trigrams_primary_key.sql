@@ -0,0 +1,22 @@
+-- backfill dari beberapa node yang start bersamaan bisa menulis posting yang sama dua kali. Primary key
+-- (contact_id, field, trigram) menolak duplikat; TrigramContactSearchIndex menulis dengan ON DUPLICATE KEY UPDATE.
+-- Di collation case/accent-insensitive dua trigram yang dianggap sama hanya tersimpan satu; tidak masalah,
+-- karena lookup trigram memakai collation yang sama sehingga keduanya tetap ketemu.
+-- Duplikat lama dibuang lewat tabel baru (tanpa primary key baris duplikat tidak bisa dihapus satu per satu)
+CREATE TABLE contact_trigrams_unique (
+    username VARCHAR(100) NOT NULL,
+    field CHAR(1) NOT NULL,
+    trigram VARCHAR(3) NOT NULL,
+    contact_id VARCHAR(100) NOT NULL,
+    PRIMARY KEY (contact_id, field, trigram)
+);
+
+INSERT INTO contact_trigrams_unique (username, field, trigram, contact_id)
+SELECT MIN(username), field, trigram, contact_id FROM contact_trigrams GROUP BY contact_id, field, trigram;
+
+DROP TABLE contact_trigrams;
+
+ALTER TABLE contact_trigrams_unique RENAME TO contact_trigrams;
+
+-- index by contact_id tidak perlu lagi: primary key sudah diawali contact_id
+CREATE INDEX idx_contact_trigrams_lookup ON contact_trigrams (username, field, trigram, contact_id);
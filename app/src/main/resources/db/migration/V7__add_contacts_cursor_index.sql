@@ -0,0 +1,4 @@
+-- koreksi komentar di V2: idx_contacts_search tidak melayani urutan cursor (first_name, id). Di index itu baris
+-- dengan first_name sama diurutkan last_name, email, phone dulu baru id, jadi ORDER BY first_name, id tetap filesort.
+-- searchByCursor (ContactService): filter username lalu urut first_name, id langsung dari index ini
+CREATE INDEX idx_contacts_cursor ON contacts (username, first_name, id);
@@ -0,0 +1,21 @@
+package devdan.restful.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRevocationStoreTest {
+
+    @Test
+    void purgeCountsOnlyRemovedEntries() {
+        InMemoryRevocationStore store = new InMemoryRevocationStore();
+        long now = System.currentTimeMillis();
+        store.revoke("expired-1", now - 1000);
+        store.revoke("expired-2", now - 1000);
+        store.revoke("active", now + 60000);
+
+        assertEquals(2, store.purgeExpired(now));
+        assertEquals(0, store.purgeExpired(now));
+        assertTrue(store.isRevoked("active", now));
+    }
+}
@@ -0,0 +1,125 @@
+package devdan.restful.config;
+
+import devdan.restful.resolver.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "token.revocation.store=jdbc")
+class JdbcRevocationStoreTest {
+
+    @Autowired
+    private RevocationStore revocationStore;
+
+    @Autowired
+    private TokenBlacklist tokenBlacklist;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM revoked_tokens");
+    }
+
+    @Test
+    void revokedTokenIsPersisted() {
+        assertInstanceOf(JdbcRevocationStore.class, revocationStore);
+
+        String token = jwtUtil.generatedToken("test");
+        tokenBlacklist.add(token, jwtUtil.getExpirationTime(token));
+        assertTrue(tokenBlacklist.contains(token));
+
+        // tanpa flush: sudah ada di database begitu add() selesai
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revoked_tokens WHERE token_hash = ?",
+                Integer.class, TokenDigests.sha256(token));
+        assertEquals(1, count);
+    }
+
+    @Test
+    void revocationSurvivesRestart() {
+        String token = jwtUtil.generatedToken("test");
+        tokenBlacklist.add(token, jwtUtil.getExpirationTime(token));
+
+        JdbcRevocationStore freshStore = new JdbcRevocationStore(jdbcTemplate);
+        TokenBlacklist freshBlacklist = new TokenBlacklist(freshStore, 1000, 0.01);
+
+        assertTrue(freshBlacklist.contains(token));
+        assertFalse(freshBlacklist.contains(jwtUtil.generatedToken("other")));
+    }
+
+    @Test
+    void purgeRemovesExpiredTokens() {
+        revocationStore.revoke(TokenDigests.sha256("expired"), System.currentTimeMillis() + 50);
+
+        int purged = revocationStore.purgeExpired(System.currentTimeMillis() + 1000);
+        assertEquals(1, purged);
+        assertFalse(revocationStore.isRevoked(TokenDigests.sha256("expired"), System.currentTimeMillis()));
+    }
+
+    @Test
+    void revokingTwiceIsIgnored() {
+        String tokenHash = TokenDigests.sha256("twice");
+        revocationStore.revoke(tokenHash, System.currentTimeMillis() + 60000);
+        assertDoesNotThrow(() -> revocationStore.revoke(tokenHash, System.currentTimeMillis() + 60000));
+
+        assertTrue(revocationStore.isRevoked(tokenHash, System.currentTimeMillis()));
+    }
+
+    @Test
+    void refreshPicksUpRevocationsFromOtherNodes() {
+        TokenBlacklist otherNode = new TokenBlacklist(new JdbcRevocationStore(jdbcTemplate), 1000, 0.01);
+
+        String token = jwtUtil.generatedToken("test");
+        tokenBlacklist.add(token, jwtUtil.getExpirationTime(token));
+        assertFalse(otherNode.contains(token));
+
+        // refresh inkremental, bukan rebuild penuh
+        otherNode.refresh();
+        assertTrue(otherNode.contains(token));
+        assertEquals(1, otherNode.size());
+
+        otherNode.refresh();
+        assertEquals(1, otherNode.size());
+    }
+
+    @Test
+    void rebuildDuringLogoutTransactionKeepsToken() {
+        String token = jwtUtil.generatedToken("test");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            tokenBlacklist.add(token, jwtUtil.getExpirationTime(token));
+            // rebuild di thread lain (koneksi lain) belum melihat baris revoke yang belum commit
+            CompletableFuture.runAsync(tokenBlacklist::rebuild).join();
+        });
+
+        assertTrue(tokenBlacklist.mightContain(token));
+        assertTrue(tokenBlacklist.contains(token));
+    }
+
+    @Test
+    void rolledBackRevocationIsNotPublished() {
+        String token = jwtUtil.generatedToken("test");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            tokenBlacklist.add(token, jwtUtil.getExpirationTime(token));
+            status.setRollbackOnly();
+        });
+
+        assertFalse(tokenBlacklist.mightContain(token));
+        assertFalse(tokenBlacklist.contains(token));
+    }
+}
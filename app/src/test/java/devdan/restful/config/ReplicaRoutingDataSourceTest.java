@@ -0,0 +1,145 @@
+package devdan.restful.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// dua database H2 terpisah sebagai pengganti primary & replica MySQL
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica1 = database("replica1");
+        replica2 = database("replica2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (DataSource dataSource : List.of(primary, replica1, replica2)) {
+            new JdbcTemplate(dataSource).execute("SHUTDOWN");
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicasRoundRobin() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), 1);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        routing.checkReplicas();
+
+        assertEquals("replica1", readOnly(dataSource));
+        assertEquals("replica2", readOnly(dataSource));
+        assertEquals("replica1", readOnly(dataSource));
+
+        assertEquals("primary", readWrite(dataSource));
+        // tanpa transaksi (mis. query saat startup) selalu ke primary
+        assertEquals("primary", new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    void replicasAreUnusedUntilFirstSuccessfulCheck() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica1), 1);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        assertTrue(routing.getHealthyReplicas().isEmpty());
+        assertEquals("primary", readOnly(dataSource));
+
+        routing.checkReplicas();
+        assertEquals("replica1", readOnly(dataSource));
+    }
+
+    @Test
+    void connectionFailureFallsBackToPrimary() {
+        AtomicBoolean down = new AtomicBoolean();
+        DataSource flaky = flaky(replica1, down);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(flaky), 1);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        routing.checkReplicas();
+
+        // replica mati di antara dua health check
+        down.set(true);
+        assertEquals("primary", readOnly(dataSource));
+        assertTrue(routing.getHealthyReplicas().isEmpty());
+    }
+
+    @Test
+    void unhealthyReplicaIsSkipped() {
+        DataSource broken = new DriverManagerDataSource("jdbc:h2:./target/missing-replica;IFEXISTS=TRUE", "sa", "");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(broken, replica2), 1);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        routing.checkReplicas();
+        assertEquals(List.of("replica-1"), routing.getHealthyReplicas());
+
+        assertEquals("replica2", readOnly(dataSource));
+        assertEquals("replica2", readOnly(dataSource));
+    }
+
+    @Test
+    void allReplicasDownFallsBackToPrimary() {
+        AtomicBoolean down = new AtomicBoolean();
+        DataSource flaky = flaky(replica1, down);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(flaky), 1);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        down.set(true);
+        routing.checkReplicas();
+        assertTrue(routing.getHealthyReplicas().isEmpty());
+        assertEquals("primary", readOnly(dataSource));
+
+        down.set(false);
+        routing.checkReplicas();
+        assertEquals("replica1", readOnly(dataSource));
+    }
+
+    private static DataSource flaky(DataSource target, AtomicBoolean down) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (down.get()) {
+                    throw new SQLException("Connection refused");
+                }
+                return super.getConnection();
+            }
+        };
+    }
+
+    private static String readOnly(DataSource dataSource) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(true);
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static String readWrite(DataSource dataSource) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    // setiap database berisi namanya sendiri supaya kelihatan query mendarat di mana
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
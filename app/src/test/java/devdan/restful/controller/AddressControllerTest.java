@@ -6,6 +6,7 @@ import devdan.restful.entity.Address;
 import devdan.restful.entity.Contact;
 import devdan.restful.entity.User;
 import devdan.restful.model.request.CreateAddressRequest;
+import devdan.restful.model.request.PatchAddressRequest;
 import devdan.restful.model.request.UpdateAddressRequest;
 import devdan.restful.model.response.AddressResponse;
 import devdan.restful.model.response.WebResponse;
@@ -28,6 +29,8 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -362,4 +365,166 @@ class AddressControllerTest {
             assertEquals(5, response.getData().size());
         });
     }
+
+    @Test
+    void testAddressOfOtherUserNotFound() throws Exception {
+        User other = new User();
+        other.setUsername("other");
+        other.setPassword(passwordEncoder.encode("admin"));
+        other.setName("Other");
+        userRepository.save(other);
+
+        Contact contact = new Contact();
+        contact.setId("milik-other");
+        contact.setFirstName("Budi");
+        contact.setUser(other);
+        contactRepository.save(contact);
+
+        Address address = new Address();
+        address.setId("alamat-other");
+        address.setCountry("Indonesia");
+        address.setContact(contact);
+        addressRepository.save(address);
+
+        String token = jwtUtil.generatedToken("test");
+
+        mockMvc.perform(
+                get("/api/contacts/milik-other/addresses/alamat-other")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isNotFound()
+        );
+
+        mockMvc.perform(
+                delete("/api/contacts/milik-other/addresses/alamat-other")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isNotFound()
+        );
+
+        mockMvc.perform(
+                get("/api/contacts/milik-other/addresses")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isNotFound()
+        );
+
+        assertTrue(addressRepository.existsById("alamat-other"));
+    }
+
+    @Test
+    void testListAddressNotModifiedUntilAddressChanges() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        String etag = mockMvc.perform(
+                get("/api/contacts/ssss/addresses")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk(),
+                header().exists("ETag")
+        ).andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(
+                get("/api/contacts/ssss/addresses")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+                        .header("If-None-Match", etag)
+        ).andExpectAll(
+                status().isNotModified(),
+                content().string("")
+        );
+
+        CreateAddressRequest request = new CreateAddressRequest();
+        request.setCountry("Indonesia");
+
+        mockMvc.perform(
+                post("/api/contacts/ssss/addresses")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        );
+
+        mockMvc.perform(
+                get("/api/contacts/ssss/addresses")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+                        .header("If-None-Match", etag)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo(result -> {
+            assertNotEquals(etag, result.getResponse().getHeader("ETag"));
+            WebResponse<List<AddressResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertEquals(1, response.getData().size());
+        });
+    }
+
+    @Test
+    void testPatchAddressAndPreconditions() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        Contact contact = contactRepository.findById("ssss").orElseThrow();
+        Address address = new Address();
+        address.setId("alamat");
+        address.setStreet("Telaga Murni");
+        address.setCity("Bekasi");
+        address.setCountry("Indonesia");
+        address.setContact(contact);
+        addressRepository.save(address);
+
+        PatchAddressRequest patch = new PatchAddressRequest();
+        patch.setCity("Jakarta");
+
+        mockMvc.perform(
+                patch("/api/contacts/ssss/addresses/alamat")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(patch))
+                        .header("Authorization", token)
+                        .header("If-Match", "\"0\"")
+        ).andExpectAll(
+                status().isOk(),
+                header().string("ETag", "\"1\"")
+        ).andDo(result -> {
+            WebResponse<AddressResponse> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertEquals("Jakarta", response.getData().getCity());
+            assertEquals("Telaga Murni", response.getData().getStreet());
+        });
+
+        UpdateAddressRequest update = new UpdateAddressRequest();
+        update.setCountry("Malaysia");
+
+        mockMvc.perform(
+                put("/api/contacts/ssss/addresses/alamat")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(update))
+                        .header("Authorization", token)
+                        .header("If-Match", "\"0\"")
+        ).andExpectAll(
+                status().isPreconditionFailed()
+        );
+
+        mockMvc.perform(
+                put("/api/contacts/ssss/addresses/alamat")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(update))
+                        .header("Authorization", token)
+                        .header("If-Match", "\"1\"")
+        ).andExpectAll(
+                status().isOk(),
+                header().string("ETag", "\"2\"")
+        );
+
+        assertEquals("Malaysia", addressRepository.findById("alamat").orElseThrow().getCountry());
+    }
 }
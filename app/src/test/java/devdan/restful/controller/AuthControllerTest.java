@@ -0,0 +1,373 @@
+package devdan.restful.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devdan.restful.entity.User;
+import devdan.restful.model.request.LoginUserRequest;
+import devdan.restful.model.request.RefreshTokenRequest;
+import devdan.restful.model.response.TokenResponse;
+import devdan.restful.model.response.WebResponse;
+import devdan.restful.repository.AddressRepository;
+import devdan.restful.repository.ContactRepository;
+import devdan.restful.repository.UserRepository;
+import devdan.restful.resolver.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        addressRepository.deleteAll();
+        contactRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void testLoginSuccess() throws Exception {
+        User user = new User();
+        user.setName("Test");
+        user.setUsername("test");
+        user.setPassword(passwordEncoder.encode("admin"));
+        userRepository.save(user);
+
+        LoginUserRequest request = new LoginUserRequest();
+        request.setUsername("test");
+        request.setPassword("admin");
+
+        MvcResult login = mockMvc.perform(
+                post("/api/auth/login")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(login)).andExpectAll(
+                status().isOk()
+        ).andDo(result -> {
+            WebResponse<TokenResponse> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertNull(response.getErrors());
+            assertNotNull(response.getData().getToken());
+            assertNotNull(response.getData().getExpiredAt());
+
+            User userDb = userRepository.findById("test").orElse(null);
+            assertNotNull(userDb);
+
+        });
+    }
+
+    @Test
+    void testLoginRehashesLegacyPassword() throws Exception {
+        User user = new User();
+        user.setName("Test");
+        user.setUsername("test");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("admin"));
+        userRepository.save(user);
+
+        LoginUserRequest request = new LoginUserRequest();
+        request.setUsername("test");
+        request.setPassword("admin");
+
+        MvcResult login = mockMvc.perform(
+                post("/api/auth/login")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(login)).andExpectAll(
+                status().isOk()
+        );
+
+        User userDb = userRepository.findById("test").orElse(null);
+        assertNotNull(userDb);
+        assertTrue(userDb.getPassword().startsWith("{bcrypt}"));
+        assertFalse(passwordEncoder.upgradeEncoding(userDb.getPassword()));
+        assertTrue(passwordEncoder.matches("admin", userDb.getPassword()));
+    }
+
+    @Test
+    void testLoginFailedUserNotFound() throws Exception {
+        LoginUserRequest request = new LoginUserRequest();
+        request.setUsername("test");
+        request.setPassword("admin");
+
+        mockMvc.perform(
+                post("/api/auth/login")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+        ).andExpectAll(
+                status().isUnauthorized()
+        ).andDo(result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+           assertNotNull(response.getErrors());
+        });
+    }
+
+    @Test
+    void testLoginFailedWrongPassword() throws Exception {
+        User user = new User();
+        user.setUsername("test");
+        user.setPassword(passwordEncoder.encode("admin"));
+        user.setName("Test");
+        userRepository.save(user);
+
+        LoginUserRequest request = new LoginUserRequest();
+        request.setUsername("test");
+        request.setPassword("idmin");
+
+        MvcResult login = mockMvc.perform(
+                post("/api/auth/login")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(login)).andExpectAll(
+                status().isUnauthorized()
+        ).andDo(result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertNotNull(response.getErrors());
+        });
+    }
+
+    @Test
+    void logoutFailed() throws Exception{
+        mockMvc.perform(
+                delete("/api/auth/logout")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+        ).andExpectAll(
+                status().isUnauthorized()
+        ).andDo(result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertNotNull(response.getErrors());
+        });
+    }
+
+    @Test
+    void logoutSuccess() throws Exception{
+
+        User user = new User();
+        user.setName("Ardhan");
+        user.setUsername("test");
+        user.setPassword(passwordEncoder.encode("admin"));
+        userRepository.save(user);
+
+        String token = jwtUtil.generatedToken(user.getUsername());
+
+        mockMvc.perform(
+                delete("/api/auth/logout")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo(result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertNull(response.getErrors());
+            assertEquals("OK", response.getData());
+
+            User userDB = userRepository.findById("test").orElse(null);
+            assertNotNull(userDB);
+        });
+    }
+
+    @Test
+    void tokenRejectedAfterLogout() throws Exception{
+        User user = new User();
+        user.setName("Ardhan");
+        user.setUsername("test");
+        user.setPassword(passwordEncoder.encode("admin"));
+        userRepository.save(user);
+
+        String token = jwtUtil.generatedToken(user.getUsername());
+
+        mockMvc.perform(
+                delete("/api/auth/logout")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        );
+
+        mockMvc.perform(
+                get("/api/users/current")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isUnauthorized()
+        ).andDo(result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertNotNull(response.getErrors());
+        });
+    }
+
+    @Test
+    void testRefreshSuccess() throws Exception{
+        String refreshToken = login().getRefreshToken();
+        assertNotNull(refreshToken);
+
+        RefreshTokenRequest request = new RefreshTokenRequest(refreshToken);
+
+        mockMvc.perform(
+                post("/api/auth/refresh")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+        ).andExpectAll(
+                status().isOk()
+        ).andDo(result -> {
+            WebResponse<TokenResponse> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertNull(response.getErrors());
+            assertEquals("test", jwtUtil.validateAndGetUsername(response.getData().getToken()));
+            assertNotNull(response.getData().getRefreshToken());
+            assertNotEquals(refreshToken, response.getData().getRefreshToken());
+        });
+
+        // refresh token sudah dirotasi, tidak bisa dipakai dua kali
+        mockMvc.perform(
+                post("/api/auth/refresh")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+        ).andExpectAll(
+                status().isUnauthorized()
+        );
+    }
+
+    @Test
+    void testRefreshFailedInvalidToken() throws Exception{
+        RefreshTokenRequest request = new RefreshTokenRequest("salah");
+
+        mockMvc.perform(
+                post("/api/auth/refresh")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+        ).andExpectAll(
+                status().isUnauthorized()
+        ).andDo(result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertNotNull(response.getErrors());
+        });
+    }
+
+    @Test
+    void refreshTokenRevokedAfterLogout() throws Exception{
+        TokenResponse tokens = login();
+
+        mockMvc.perform(
+                delete("/api/auth/logout")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", tokens.getToken())
+                        .header("X-Refresh-Token", tokens.getRefreshToken())
+        ).andExpectAll(
+                status().isOk()
+        );
+
+        mockMvc.perform(
+                post("/api/auth/refresh")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(tokens.getRefreshToken())))
+        ).andExpectAll(
+                status().isUnauthorized()
+        );
+    }
+
+    @Test
+    void logoutWithExpiredTokenRevokesRefreshToken() throws Exception{
+        TokenResponse tokens = login();
+        String expired = jwtUtil.generateTokenWithExpiration("test", -1000);
+
+        mockMvc.perform(
+                delete("/api/auth/logout")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", expired)
+                        .header("X-Refresh-Token", tokens.getRefreshToken())
+        ).andExpectAll(
+                status().isOk()
+        );
+
+        mockMvc.perform(
+                post("/api/auth/refresh")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(tokens.getRefreshToken())))
+        ).andExpectAll(
+                status().isUnauthorized()
+        );
+    }
+
+    private TokenResponse login() throws Exception{
+        User user = new User();
+        user.setName("Test");
+        user.setUsername("test");
+        user.setPassword(passwordEncoder.encode("admin"));
+        userRepository.save(user);
+
+        MvcResult login = mockMvc.perform(
+                post("/api/auth/login")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new LoginUserRequest("test", "admin")))
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(login)).andExpectAll(
+                status().isOk()
+        ).andReturn();
+
+        WebResponse<TokenResponse> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+        return response.getData();
+    }
+
+}
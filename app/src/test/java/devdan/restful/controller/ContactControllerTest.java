@@ -0,0 +1,888 @@
+package devdan.restful.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devdan.restful.entity.Address;
+import devdan.restful.entity.Contact;
+import devdan.restful.entity.User;
+import devdan.restful.model.response.ContactResponse;
+import devdan.restful.model.request.CreateContactRequest;
+import devdan.restful.model.request.PatchContactRequest;
+import devdan.restful.model.request.UpdateContactRequest;
+import devdan.restful.model.response.BulkContactResponse;
+import devdan.restful.model.response.ContactExportResponse;
+import devdan.restful.model.response.WebResponse;
+import devdan.restful.repository.AddressRepository;
+import devdan.restful.repository.ContactRepository;
+import devdan.restful.repository.UserRepository;
+import devdan.restful.resolver.JwtUtil;
+import devdan.restful.service.ContactCountCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ContactControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ContactCountCache contactCountCache;
+
+    @BeforeEach
+    void setUp() {
+        addressRepository.deleteAll();
+        contactRepository.deleteAll();
+        userRepository.deleteAll();
+        // data dihapus lewat repository, total yang di-cache tidak ikut dibuang
+        contactCountCache.invalidate("test");
+
+        User user = new User();
+        user.setUsername("test");
+        user.setPassword(passwordEncoder.encode("admin"));
+        user.setName("Test");
+        userRepository.save(user);
+    }
+
+    @Test
+    void testCreateContactBadRequest() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        CreateContactRequest request = new CreateContactRequest();
+        request.setFirstname("");
+        request.setEmail("ardhanexamplecom");
+
+        mockMvc.perform(
+                post("/api/contacts")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isBadRequest()
+        ).andDo( result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNotNull(response.getErrors());
+        });
+    }
+
+    @Test
+    void testCreateContactSuccess() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        CreateContactRequest request = new CreateContactRequest();
+        request.setFirstname("Ardhani");
+        request.setLastname("Ahlan");
+        request.setEmail("ardhan@example.com");
+        request.setPhone("08123213132");
+
+        mockMvc.perform(
+                post("/api/contacts")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<ContactResponse> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals("Ardhani", response.getData().getFirstname());
+            assertEquals("Ahlan", response.getData().getLastname());
+            assertEquals("ardhan@example.com", response.getData().getEmail());
+            assertEquals("08123213132", response.getData().getPhone());
+
+            assertTrue(contactRepository.existsById(response.getData().getId()));
+        });
+    }
+
+    @Test
+    void testGetContactNotFound() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        mockMvc.perform(
+                get("/api/contacts/11312")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isNotFound()
+        ).andDo( result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNotNull(response.getErrors());
+        });
+    }
+
+    @Test
+    void testGetContactSuccess() throws Exception {
+        User user = userRepository.findById("test").orElseThrow();
+        String token = jwtUtil.generatedToken("test");
+
+        Contact contact = new Contact();
+        contact.setId(UUID.randomUUID().toString());
+        contact.setFirstName("Ardhani");
+        contact.setLastName("Ahlan");
+        contact.setEmail("ardhan@example.com");
+        contact.setPhone("0812114134");
+        contact.setUser(user);
+        contactRepository.save(contact);
+
+        mockMvc.perform(
+                get("/api/contacts/" + contact.getId())
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<ContactResponse> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(contact.getId(), response.getData().getId());
+            assertEquals(contact.getFirstName(), response.getData().getFirstname());
+            assertEquals(contact.getLastName(), response.getData().getLastname());
+            assertEquals(contact.getEmail(), response.getData().getEmail());
+            assertEquals(contact.getPhone(), response.getData().getPhone());
+        });
+    }
+
+    @Test
+    void testGetContactNotModified() throws Exception {
+        User user = userRepository.findById("test").orElseThrow();
+        String token = jwtUtil.generatedToken("test");
+
+        Contact contact = new Contact();
+        contact.setId(UUID.randomUUID().toString());
+        contact.setFirstName("Ardhani");
+        contact.setUser(user);
+        contactRepository.save(contact);
+
+        String etag = mockMvc.perform(
+                get("/api/contacts/" + contact.getId())
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk(),
+                header().exists("ETag")
+        ).andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(
+                get("/api/contacts/" + contact.getId())
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+                        .header("If-None-Match", etag)
+        ).andExpectAll(
+                status().isNotModified(),
+                content().string("")
+        );
+
+        contact.setFirstName("Budi");
+        contactRepository.save(contact);
+
+        mockMvc.perform(
+                get("/api/contacts/" + contact.getId())
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+                        .header("If-None-Match", etag)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo(result -> {
+            assertNotEquals(etag, result.getResponse().getHeader("ETag"));
+            WebResponse<ContactResponse> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertEquals("Budi", response.getData().getFirstname());
+        });
+
+        mockMvc.perform(
+                get("/api/contacts/tidak-ada")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+                        .header("If-None-Match", etag)
+        ).andExpectAll(
+                status().isNotFound()
+        );
+    }
+
+    @Test
+    void testPatchContactOnlySuppliedFields() throws Exception {
+        User user = userRepository.findById("test").orElseThrow();
+        String token = jwtUtil.generatedToken("test");
+
+        Contact contact = new Contact();
+        contact.setId(UUID.randomUUID().toString());
+        contact.setFirstName("Ardhani");
+        contact.setLastName("Ahlan");
+        contact.setEmail("ardhan@example.com");
+        contact.setPhone("0812114134");
+        contact.setUser(user);
+        contactRepository.save(contact);
+
+        PatchContactRequest request = new PatchContactRequest();
+        request.setPhone("0899");
+
+        mockMvc.perform(
+                patch("/api/contacts/" + contact.getId())
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", token)
+                        .header("If-Match", "\"0\"")
+        ).andExpectAll(
+                status().isOk(),
+                header().string("ETag", "\"1\"")
+        ).andDo(result -> {
+            WebResponse<ContactResponse> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertNull(response.getErrors());
+            assertEquals("Ardhani", response.getData().getFirstname());
+            assertEquals("Ahlan", response.getData().getLastname());
+            assertEquals("ardhan@example.com", response.getData().getEmail());
+            assertEquals("0899", response.getData().getPhone());
+        });
+
+        // versi sudah 1, ETag lama ditolak
+        mockMvc.perform(
+                patch("/api/contacts/" + contact.getId())
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", token)
+                        .header("If-Match", "\"0\"")
+        ).andExpectAll(
+                status().isPreconditionFailed()
+        );
+    }
+
+    @Test
+    void testUpdateContactPreconditionFailed() throws Exception {
+        User user = userRepository.findById("test").orElseThrow();
+        String token = jwtUtil.generatedToken("test");
+
+        Contact contact = new Contact();
+        contact.setId(UUID.randomUUID().toString());
+        contact.setFirstName("Ardhani");
+        contact.setUser(user);
+        contactRepository.save(contact);
+
+        UpdateContactRequest request = new UpdateContactRequest();
+        request.setFirstname("Budi");
+
+        mockMvc.perform(
+                put("/api/contacts/" + contact.getId())
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", token)
+                        .header("If-Match", "\"5\"")
+        ).andExpectAll(
+                status().isPreconditionFailed()
+        ).andDo(result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+            assertNotNull(response.getErrors());
+        });
+
+        assertEquals("Ardhani", contactRepository.findById(contact.getId()).orElseThrow().getFirstName());
+    }
+
+    @Test
+    void testUpdateContactSuccess() throws Exception{
+        User user = userRepository.findById("test").orElseThrow();
+        String token = jwtUtil.generatedToken("test");
+
+        Contact contact = new Contact();
+        contact.setId(UUID.randomUUID().toString());
+        contact.setFirstName("Ardhani");
+        contact.setLastName("Ahlan");
+        contact.setEmail("ardhan@example.com");
+        contact.setPhone("0812114134");
+        contact.setUser(user);
+        contactRepository.save(contact);
+
+        CreateContactRequest request = new CreateContactRequest();
+        request.setFirstname("Ahlan");
+        request.setLastname("Ardhani");
+        request.setEmail("ahlan@example.com");
+        request.setPhone("0812114134");
+
+        mockMvc.perform(
+                put("/api/contacts/" + contact.getId())
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo(result -> {
+            WebResponse<ContactResponse> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(request.getFirstname(), response.getData().getFirstname());
+            assertEquals(request.getLastname(), response.getData().getLastname());
+            assertEquals(request.getEmail(), response.getData().getEmail());
+            assertEquals(request.getPhone(), response.getData().getPhone());
+
+            assertTrue(contactRepository.existsById(contact.getId()));
+        });
+    }
+
+    @Test
+    void testUpdateContactBadRequest() throws Exception{
+        String token = jwtUtil.generatedToken("test");
+
+        UpdateContactRequest request = new UpdateContactRequest();
+        request.setFirstname("");
+        request.setEmail("sda");
+
+        mockMvc.perform(
+                put("/api/contacts/34242423")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isBadRequest()
+        ).andDo(result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNotNull(response.getErrors());
+        });
+    }
+
+    @Test
+    void testDeleteContactNotFound() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        mockMvc.perform(
+                delete("/api/contacts/11312")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isNotFound()
+        ).andDo( result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNotNull(response.getErrors());
+        });
+    }
+
+    @Test
+    void testDeleteContactSuccess() throws Exception {
+        User user = userRepository.findById("test").orElseThrow();
+        String token = jwtUtil.generatedToken("test");
+
+        Contact contact = new Contact();
+        contact.setId(UUID.randomUUID().toString());
+        contact.setFirstName("Ardhani");
+        contact.setLastName("Ahlan");
+        contact.setEmail("ardhan@example.com");
+        contact.setPhone("0812114134");
+        contact.setUser(user);
+        contactRepository.save(contact);
+
+        mockMvc.perform(
+                delete("/api/contacts/" + contact.getId())
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals("OK", response.getData());
+        });
+    }
+
+    @Test
+    void testSearchContactNotFound() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        mockMvc.perform(
+                get("/api/contacts")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<List<ContactResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(0, response.getData().size());
+            assertEquals(0, response.getPagingResponse().getCurrentPage());
+            assertEquals(0, response.getPagingResponse().getTotalPage());
+            assertEquals(10, response.getPagingResponse().getSize());
+        });
+    }
+
+    @Test
+    void testSearchSuccess() throws Exception {
+        User user = userRepository.findById("test").orElseThrow();
+        String token = jwtUtil.generatedToken("test");
+
+        for (int i = 0; i < 5; i++){
+            Contact contact = new Contact();
+            contact.setId(UUID.randomUUID().toString());
+            contact.setFirstName("Ardhani" + i);
+            contact.setLastName("Ahlan");
+            contact.setEmail("ardhan@example.com");
+            contact.setPhone("0812114134");
+            contact.setUser(user);
+            contactRepository.save(contact);
+        }
+
+        mockMvc.perform(
+                get("/api/contacts")
+                        .queryParam("name", "Ardhani")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<List<ContactResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(5, response.getData().size());
+            assertEquals(0, response.getPagingResponse().getCurrentPage());
+            assertEquals(1, response.getPagingResponse().getTotalPage());
+            assertEquals(10, response.getPagingResponse().getSize());
+        });
+
+        mockMvc.perform(
+                get("/api/contacts")
+                        .queryParam("name", "Ahlan")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<List<ContactResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(5, response.getData().size());
+            assertEquals(0, response.getPagingResponse().getCurrentPage());
+            assertEquals(1, response.getPagingResponse().getTotalPage());
+            assertEquals(10, response.getPagingResponse().getSize());
+        });
+
+        mockMvc.perform(
+                get("/api/contacts")
+                        .queryParam("email", "example.com")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<List<ContactResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(5, response.getData().size());
+            assertEquals(0, response.getPagingResponse().getCurrentPage());
+            assertEquals(1, response.getPagingResponse().getTotalPage());
+            assertEquals(10, response.getPagingResponse().getSize());
+        });
+
+        mockMvc.perform(
+                get("/api/contacts")
+                        .queryParam("phone", "0812")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<List<ContactResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(5, response.getData().size());
+            assertEquals(0, response.getPagingResponse().getCurrentPage());
+            assertEquals(1, response.getPagingResponse().getTotalPage());
+            assertEquals(10, response.getPagingResponse().getSize());
+        });
+
+        mockMvc.perform(
+                get("/api/contacts")
+                        .queryParam("phone", "0812")
+                        .queryParam("page", "1000")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<List<ContactResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(0, response.getData().size());
+            assertEquals(1000, response.getPagingResponse().getCurrentPage());
+            assertEquals(1, response.getPagingResponse().getTotalPage());
+            assertEquals(10, response.getPagingResponse().getSize());
+        });
+    }
+
+    @Test
+    void testSearchWithCursor() throws Exception {
+        User user = userRepository.findById("test").orElseThrow();
+        String token = jwtUtil.generatedToken("test");
+
+        for (int i = 0; i < 25; i++){
+            Contact contact = new Contact();
+            contact.setId(UUID.randomUUID().toString());
+            contact.setFirstName("Ardhani" + i);
+            contact.setLastName("Ahlan");
+            contact.setEmail("ardhan@example.com");
+            contact.setPhone("0812114134");
+            contact.setUser(user);
+            contactRepository.save(contact);
+        }
+
+        Set<String> ids = new HashSet<>();
+        String cursor = "";
+        int pages = 0;
+        boolean hasMore = true;
+
+        while (hasMore) {
+            String currentCursor = cursor;
+            WebResponse<List<ContactResponse>> response = objectMapper.readValue(mockMvc.perform(
+                    get("/api/contacts")
+                            .queryParam("name", "Ardhani")
+                            .queryParam("cursor", currentCursor)
+                            .accept(MediaType.APPLICATION_JSON_VALUE)
+                            .header("Authorization", token)
+            ).andExpectAll(
+                    status().isOk()
+            ).andReturn().getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertNull(response.getPagingResponse().getTotalPage());
+            response.getData().forEach(contact -> ids.add(contact.getId()));
+
+            hasMore = response.getPagingResponse().getHasMore();
+            cursor = response.getPagingResponse().getNextCursor();
+            assertEquals(hasMore, cursor != null);
+            pages++;
+        }
+
+        assertEquals(25, ids.size());
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void testSearchWithInvalidCursor() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        mockMvc.perform(
+                get("/api/contacts")
+                        .queryParam("cursor", "bukan-cursor")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isBadRequest()
+        ).andDo( result -> {
+            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNotNull(response.getErrors());
+        });
+    }
+
+    @Test
+    void testSearchWithoutCount() throws Exception {
+        User user = userRepository.findById("test").orElseThrow();
+        String token = jwtUtil.generatedToken("test");
+
+        for (int i = 0; i < 15; i++){
+            Contact contact = new Contact();
+            contact.setId(UUID.randomUUID().toString());
+            contact.setFirstName("Ardhani" + i);
+            contact.setLastName("Ahlan");
+            contact.setEmail("ardhan@example.com");
+            contact.setPhone("0812114134");
+            contact.setUser(user);
+            contactRepository.save(contact);
+        }
+
+        mockMvc.perform(
+                get("/api/contacts")
+                        .queryParam("count", "none")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<List<ContactResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(10, response.getData().size());
+            assertEquals(0, response.getPagingResponse().getCurrentPage());
+            assertNull(response.getPagingResponse().getTotalPage());
+            assertTrue(response.getPagingResponse().getHasMore());
+        });
+
+        mockMvc.perform(
+                get("/api/contacts")
+                        .queryParam("count", "estimate")
+                        .queryParam("page", "1")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<List<ContactResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(5, response.getData().size());
+            assertEquals(2, response.getPagingResponse().getTotalPage());
+            assertTrue(response.getPagingResponse().getApproximate());
+            assertFalse(response.getPagingResponse().getHasMore());
+        });
+    }
+
+    @Test
+    void testEstimatedCountInvalidatedOnCreate() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        assertEquals(0, estimatedTotal(token));
+
+        CreateContactRequest request = new CreateContactRequest();
+        request.setFirstname("Ardhan");
+        request.setEmail("ardhan@example.com");
+        mockMvc.perform(
+                post("/api/contacts")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", token)
+        ).andExpect(status().isOk());
+
+        assertEquals(1, estimatedTotal(token));
+    }
+
+    private int estimatedTotal(String token) throws Exception {
+        MvcResult result = mockMvc.perform(
+                get("/api/contacts")
+                        .queryParam("count", "estimate")
+                        .queryParam("size", "1")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpect(status().isOk()).andReturn();
+
+        WebResponse<List<ContactResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+        return response.getPagingResponse().getTotalPage();
+    }
+
+    @Test
+    void testSearchWithInvalidCountMode() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        mockMvc.perform(
+                get("/api/contacts")
+                        .queryParam("count", "semua")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isBadRequest()
+        );
+    }
+
+    @Test
+    void testBulkCreateContactJsonArray() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        List<CreateContactRequest> requests = List.of(
+                CreateContactRequest.builder().firstname("Ardhani").lastname("Ahlan").email("ardhan@example.com").build(),
+                CreateContactRequest.builder().firstname("").email("salah").build(),
+                CreateContactRequest.builder().firstname("Budi").phone("0812").build()
+        );
+
+        mockMvc.perform(
+                post("/api/contacts/bulk")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(requests))
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<List<BulkContactResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(3, response.getData().size());
+            assertNotNull(response.getData().get(0).getId());
+            assertNull(response.getData().get(1).getId());
+            assertNotNull(response.getData().get(1).getErrors());
+            assertEquals(2, response.getData().get(2).getIndex());
+
+            assertTrue(contactRepository.existsById(response.getData().get(0).getId()));
+            assertTrue(contactRepository.existsById(response.getData().get(2).getId()));
+            assertEquals(2, contactRepository.count());
+        });
+    }
+
+    @Test
+    void testBulkCreateContactNdjson() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 25; i++) {
+            body.append(objectMapper.writeValueAsString(CreateContactRequest.builder().firstname("Ardhani" + i).build()))
+                    .append('\n');
+        }
+        body.append("{bukan json");
+
+        mockMvc.perform(
+                post("/api/contacts/bulk")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                        .content(body.toString())
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo( result -> {
+            WebResponse<List<BulkContactResponse>> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals(26, response.getData().size());
+            assertNotNull(response.getData().get(25).getErrors());
+            assertEquals(25, contactRepository.count());
+        });
+    }
+
+    @Test
+    void testExportContacts() throws Exception {
+        User user = userRepository.findById("test").orElseThrow();
+        String token = jwtUtil.generatedToken("test");
+
+        for (int i = 0; i < 3; i++){
+            Contact contact = new Contact();
+            contact.setId("contact-" + i);
+            contact.setFirstName("Ardhani" + i);
+            contact.setLastName("Ahlan, Jr");
+            contact.setUser(user);
+            contactRepository.save(contact);
+
+            for (int j = 0; j < i; j++) {
+                Address address = new Address();
+                address.setId("address-" + i + "-" + j);
+                address.setCity("Bekasi");
+                address.setCountry("Indonesia");
+                address.setContact(contact);
+                addressRepository.save(address);
+            }
+        }
+
+        MvcResult ndjson = mockMvc.perform(
+                get("/api/contacts/export")
+                        .header("Authorization", token)
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(ndjson)).andExpectAll(
+                status().isOk()
+        ).andDo(result -> {
+            String[] lines = result.getResponse().getContentAsString().split("\n");
+            assertEquals(3, lines.length);
+
+            ContactExportResponse last = objectMapper.readValue(lines[2], ContactExportResponse.class);
+            assertEquals("contact-2", last.getId());
+            assertEquals(2, last.getAddresses().size());
+            assertEquals(0, objectMapper.readValue(lines[0], ContactExportResponse.class).getAddresses().size());
+        });
+
+        MvcResult csv = mockMvc.perform(
+                get("/api/contacts/export")
+                        .queryParam("format", "csv")
+                        .header("Authorization", token)
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(csv)).andExpectAll(
+                status().isOk()
+        ).andDo(result -> {
+            String[] lines = result.getResponse().getContentAsString().split("\n");
+            assertEquals(5, lines.length);
+            assertTrue(lines[1].startsWith("contact-0,Ardhani0,\"Ahlan, Jr\""));
+        });
+    }
+
+    @Test
+    void testExportContactsInvalidFormat() throws Exception {
+        String token = jwtUtil.generatedToken("test");
+
+        mockMvc.perform(
+                get("/api/contacts/export")
+                        .queryParam("format", "xml")
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isBadRequest()
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package devdan.restful.controller;
+
+import devdan.restful.entity.Contact;
+import devdan.restful.entity.User;
+import devdan.restful.repository.AddressRepository;
+import devdan.restful.repository.ContactRepository;
+import devdan.restful.repository.UserRepository;
+import devdan.restful.resolver.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// metrics di test dimatikan Spring Boot secara default, @AutoConfigureObservability menyalakannya lagi
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        addressRepository.deleteAll();
+        contactRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setUsername("test");
+        user.setPassword(passwordEncoder.encode("admin"));
+        user.setName("Test");
+        userRepository.save(user);
+
+        Contact contact = new Contact();
+        contact.setId("contact-1");
+        contact.setFirstName("Ardhani");
+        contact.setLastName("Ahlan");
+        contact.setEmail("ardhan@example.com");
+        contact.setPhone("0812114134");
+        contact.setUser(user);
+        contactRepository.save(contact);
+
+        token = jwtUtil.generatedToken("test");
+    }
+
+    @Test
+    void prometheusScrape() throws Exception {
+        mockMvc.perform(get("/api/contacts/contact-1")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/contacts").header("Authorization", token))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // latency per route (template, bukan id) dengan bucket histogram
+        assertContains(scrape, "http_server_requests_seconds_bucket{");
+        assertContains(scrape, "uri=\"/api/contacts/{idContact}\"");
+        assertContains(scrape, "spring_data_repository_invocations_seconds_bucket{");
+        assertContains(scrape, "jwt_token_parse_seconds_bucket{");
+        assertContains(scrape, "jwt_blacklist_lookup_seconds_count");
+        assertContains(scrape, "principal_load_seconds_count");
+        assertContains(scrape, "contact_search_seconds_count");
+        assertContains(scrape, "principal_cache_requests_total");
+        assertContains(scrape, "token_blacklist_size");
+        assertContains(scrape, "password_hash_queue_depth");
+        assertContains(scrape, "hikaricp_connections_active");
+        assertContains(scrape, "hibernate_");
+    }
+
+    private static void assertContains(String scrape, String metric) {
+        assertTrue(scrape.contains(metric), () -> metric + " tidak ada di /actuator/prometheus");
+    }
+}
@@ -0,0 +1,299 @@
+package devdan.restful.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import devdan.restful.entity.Address;
+import devdan.restful.entity.Contact;
+import devdan.restful.entity.User;
+import devdan.restful.model.request.UpdateAddressRequest;
+import devdan.restful.repository.AddressRepository;
+import devdan.restful.repository.ContactRepository;
+import devdan.restful.repository.UserRepository;
+import devdan.restful.resolver.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// memastikan jumlah statement SQL per endpoint tidak bertambah diam-diam (N+1, eager fetch)
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(QueryCountTest.StatementCounterConfig.class)
+class QueryCountTest {
+
+    // dihitung di level JDBC, bukan statistik Hibernate, supaya statement lewat JdbcTemplate ikut terhitung
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+    private static volatile Thread countingThread;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        addressRepository.deleteAll();
+        contactRepository.deleteAll();
+        userRepository.deleteAll();
+        // delete meninggalkan lock READ_WRITE di cache yang menolak put untuk id yang sama selama timeout-nya
+        entityManagerFactory.getCache().evictAll();
+
+        User user = new User();
+        user.setUsername("test");
+        user.setPassword(passwordEncoder.encode("admin"));
+        user.setName("Test");
+        userRepository.save(user);
+
+        for (int i = 0; i < 15; i++) {
+            Contact contact = new Contact();
+            contact.setId("contact-" + i);
+            contact.setFirstName("Ardhani" + i);
+            contact.setLastName("Ahlan");
+            contact.setEmail("ardhan@example.com");
+            contact.setPhone("0812114134");
+            contact.setUser(user);
+            contactRepository.save(contact);
+
+            for (int j = 0; j < 3; j++) {
+                Address address = new Address();
+                address.setId("address-" + i + "-" + j);
+                address.setStreet("Telaga Murni");
+                address.setCity("Bekasi");
+                address.setProvince("Jawa Barat");
+                address.setCountry("Indonesia");
+                address.setPostalCode("12345");
+                address.setContact(contact);
+                addressRepository.save(address);
+            }
+        }
+
+        token = jwtUtil.generatedToken("test");
+        // isi cache principal dulu supaya yang dihitung hanya query milik endpoint
+        mockMvc.perform(get("/api/users/current").header("Authorization", token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getContact() throws Exception {
+        assertStatements(1, get("/api/contacts/contact-1")
+                .contentType(MediaType.APPLICATION_JSON_VALUE));
+    }
+
+    @Test
+    void searchContacts() throws Exception {
+        assertStatements(2, get("/api/contacts"));
+        assertStatements(1, get("/api/contacts").queryParam("count", "none"));
+    }
+
+    @Test
+    void bulkCreateContacts() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            body.append("{\"firstname\":\"Bulk").append(i).append("\"}\n");
+        }
+
+        // satu insert batch, tanpa select ke users atau contacts
+        assertStatements(1, post("/api/contacts/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .content(body.toString()));
+    }
+
+    @Test
+    void getAddress() throws Exception {
+        assertStatements(1, get("/api/contacts/contact-1/addresses/address-1-1"));
+    }
+
+    @Test
+    void listAddresses() throws Exception {
+        // lookup versi daftar (ETag) + daftar address
+        assertStatements(2, get("/api/contacts/contact-1/addresses"));
+    }
+
+    @Test
+    void updateAddress() throws Exception {
+        UpdateAddressRequest request = new UpdateAddressRequest();
+        request.setStreet("Jalan Baru");
+        request.setCity("Jakarta");
+        request.setProvince("DKI Jakarta");
+        request.setCountry("Indonesia");
+        request.setPostalCode("54321");
+
+        // pola read-modify-write dengan ETag: GET mengisi second-level cache, tanpa itu ditambah satu SELECT by PK
+        assertStatements(1, get("/api/contacts/contact-1/addresses/address-1-1"));
+        // UPDATE contacts (kepemilikan + versi daftar) + UPDATE address
+        assertStatements(2, put("/api/contacts/contact-1/addresses/address-1-1")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    @Test
+    void patchAddress() throws Exception {
+        assertStatements(1, get("/api/contacts/contact-1/addresses/address-1-1"));
+        assertStatements(2, patch("/api/contacts/contact-1/addresses/address-1-1")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("{\"city\":\"Jakarta\"}"));
+    }
+
+    @Test
+    void deleteAddress() throws Exception {
+        // UPDATE contacts (kepemilikan + versi daftar) + DELETE address
+        assertStatements(2, delete("/api/contacts/contact-1/addresses/address-1-1"));
+    }
+
+    @Test
+    void addressWriteEvictsOnlyItsOwnEntry() throws Exception {
+        assertStatements(1, get("/api/contacts/contact-1/addresses/address-1-1"));
+        assertStatements(1, get("/api/contacts/contact-1/addresses/address-1-2"));
+        assertStatements(2, delete("/api/contacts/contact-1/addresses/address-1-1"));
+
+        assertFalse(entityManagerFactory.getCache().contains(Address.class, "address-1-1"));
+        assertTrue(entityManagerFactory.getCache().contains(Address.class, "address-1-2"));
+    }
+
+    @Test
+    void patchContact() throws Exception {
+        // nilai sama dengan yang tersimpan: hanya select, tidak ada UPDATE
+        assertStatements(1, patch("/api/contacts/contact-1")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("{\"phone\":\"0812114134\"}"));
+        // contact kedua kalinya diambil dari second-level cache, tinggal UPDATE
+        assertStatements(1, patch("/api/contacts/contact-1")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("{\"phone\":\"0899\"}"));
+    }
+
+    @Test
+    void conditionalGetsAnsweredFromVersionLookup() throws Exception {
+        assertStatements(1, status().isNotModified(), get("/api/contacts/contact-1")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header("If-None-Match", "\"0\""));
+        assertStatements(1, status().isNotModified(), get("/api/contacts/contact-1/addresses/address-1-1")
+                .header("If-None-Match", "\"0\""));
+        assertStatements(0, status().isNotModified(), get("/api/users/current")
+                .header("If-None-Match", "\"0\""));
+    }
+
+    @Test
+    void secondLevelCacheHits() throws Exception {
+        assertStatements(1, get("/api/contacts/contact-1").contentType(MediaType.APPLICATION_JSON_VALUE));
+        assertStatements(0, get("/api/contacts/contact-1").contentType(MediaType.APPLICATION_JSON_VALUE));
+        assertStatements(1, get("/api/contacts/contact-1/addresses/address-1-1"));
+        assertStatements(0, get("/api/contacts/contact-1/addresses/address-1-1"));
+
+        String etag = mockMvc.perform(get("/api/contacts/contact-1/addresses")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        // 304 cukup dari lookup versi, daftarnya tidak dimuat
+        assertStatements(1, status().isNotModified(), get("/api/contacts/contact-1/addresses")
+                .header("If-None-Match", etag));
+    }
+
+    private void assertStatements(long expected, MockHttpServletRequestBuilder request) throws Exception {
+        assertStatements(expected, status().isOk(), request);
+    }
+
+    private void assertStatements(long expected, ResultMatcher status, MockHttpServletRequestBuilder request) throws Exception {
+        STATEMENTS.set(0);
+        // MockMvc menjalankan request di thread test; thread scheduler tidak ikut dihitung
+        countingThread = Thread.currentThread();
+        try {
+            mockMvc.perform(request
+                            .accept(MediaType.APPLICATION_JSON_VALUE)
+                            .header("Authorization", token))
+                    .andExpect(status);
+        } finally {
+            countingThread = null;
+        }
+
+        assertEquals(expected, STATEMENTS.get());
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        static BeanPostProcessor statementCounter() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+                        return new DelegatingDataSource(dataSource) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                return counting(super.getConnection());
+                            }
+                        };
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+                            if (Thread.currentThread() == countingThread) {
+                                STATEMENTS.incrementAndGet();
+                            }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
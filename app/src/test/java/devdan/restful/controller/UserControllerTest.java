@@ -20,12 +20,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -67,12 +69,14 @@ class UserControllerTest {
         request.setPassword("admin");
         request.setName("Test");
 
-        mockMvc.perform(
+        MvcResult register = mockMvc.perform(
                 post("/api/users")
                         .accept(MediaType.APPLICATION_JSON_VALUE)
                         .contentType(MediaType.APPLICATION_JSON_VALUE)
                         .content(objectMapper.writeValueAsString(request))
-        ).andExpectAll(
+        ).andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(register)).andExpectAll(
                 status().isOk()
         ).andDo(result ->{
             WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
@@ -272,4 +276,50 @@ class UserControllerTest {
             assertTrue(passwordEncoder.matches("admin123", userDB.getPassword()));
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUserAfterUpdateReturnsFreshData() throws Exception{
+        User user = new User();
+        user.setName("Test");
+        user.setUsername("test");
+        user.setPassword(passwordEncoder.encode("admin"));
+        userRepository.save(user);
+
+        String token = jwtUtil.generatedToken(user.getUsername());
+
+        mockMvc.perform(
+                get("/api/users/current")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        );
+
+        UpdateUserRequest request = new UpdateUserRequest();
+        request.setName("Ardhan");
+
+        mockMvc.perform(
+                patch("/api/users/current")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request))
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        );
+
+        mockMvc.perform(
+                get("/api/users/current")
+                        .accept(MediaType.APPLICATION_JSON_VALUE)
+                        .header("Authorization", token)
+        ).andExpectAll(
+                status().isOk()
+        ).andDo(result ->{
+            WebResponse<UserResponse> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+            });
+
+            assertNull(response.getErrors());
+            assertEquals("Ardhan", response.getData().getName());
+        });
+    }
+}
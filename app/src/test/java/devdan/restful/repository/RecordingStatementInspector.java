@@ -0,0 +1,24 @@
+package devdan.restful.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// dibuat Hibernate lewat nama class, jadi SQL yang tercatat disimpan static
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static List<String> drain() {
+        List<String> statements = List.copyOf(STATEMENTS);
+        STATEMENTS.clear();
+        return statements;
+    }
+}
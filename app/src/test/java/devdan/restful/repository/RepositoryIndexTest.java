@@ -0,0 +1,145 @@
+package devdan.restful.repository;
+
+import devdan.restful.entity.Address;
+import devdan.restful.entity.Contact;
+import devdan.restful.entity.User;
+import devdan.restful.model.request.SearchContactRequest;
+import devdan.restful.service.ContactService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// setiap SQL yang dihasilkan finder di-EXPLAIN di H2: tidak boleh ada tableScan, semua tabel dibaca lewat index.
+// Batasan: ini planner H2, bukan MySQL. Test hanya membuktikan ada index yang cocok dengan predicate di migrasi;
+// pilihan optimizer MySQL (cost-based, covering index, filesort) tidak ikut diuji dan harus dicek dengan EXPLAIN
+// di MySQL sungguhan, mis. setelah menjalankan load test (profile loadtest) dengan --jdbc-url ke MySQL
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=devdan.restful.repository.RecordingStatementInspector",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class RepositoryIndexTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        addressRepository.deleteAll();
+        contactRepository.deleteAll();
+        userRepository.deleteAll();
+
+        // beberapa user supaya optimizer tidak memilih full scan karena tabelnya kecil
+        for (int u = 0; u < 5; u++) {
+            User owner = new User();
+            owner.setUsername("test" + u);
+            owner.setPassword("-");
+            owner.setName("Test");
+            userRepository.save(owner);
+            if (u == 0) {
+                user = owner;
+            }
+
+            for (int i = 0; i < 20; i++) {
+                Contact contact = new Contact();
+                contact.setId("contact-" + u + "-" + i);
+                contact.setFirstName("Ardhani" + i);
+                contact.setLastName("Ahlan");
+                contact.setEmail("ardhan" + i + "@example.com");
+                contact.setPhone("0812114134");
+                contact.setUser(owner);
+                contactRepository.save(contact);
+
+                Address address = new Address();
+                address.setId("address-" + u + "-" + i);
+                address.setCountry("Indonesia");
+                address.setContact(contact);
+                addressRepository.save(address);
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+        RecordingStatementInspector.drain();
+    }
+
+    @Test
+    void contactFinders() {
+        contactRepository.findFirstByUserAndId(user, "contact-0-1");
+        assertUsesIndexes();
+
+        contactRepository.existsByUserAndId(user, "contact-0-1");
+        assertUsesIndexes();
+
+        contactRepository.findVersion("test0", "contact-0-1");
+        assertUsesIndexes();
+
+        contactRepository.findAllByUserUsername("test0");
+        assertUsesIndexes();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ContactExportRow> rows = contactRepository.streamExportRows("test0")) {
+                rows.forEach(row -> { });
+            }
+        });
+        assertUsesIndexes();
+    }
+
+    @Test
+    void addressFinders() {
+        addressRepository.findFirstByOwner("test0", "contact-0-1", "address-0-1");
+        assertUsesIndexes();
+
+        addressRepository.findVersionByOwner("test0", "contact-0-1", "address-0-1");
+        assertUsesIndexes();
+
+        addressRepository.findAllByOwner("test0", "contact-0-1");
+        assertUsesIndexes();
+    }
+
+    @Test
+    void searchSpecification() {
+        contactService.search(user, SearchContactRequest.builder().name("dhan").page(0).size(10).build());
+        assertUsesIndexes();
+
+        contactService.search(user, SearchContactRequest.builder().email("example").page(0).size(10).build());
+        assertUsesIndexes();
+
+        contactService.search(user, SearchContactRequest.builder().phone("0812").page(1).size(10).count("none").build());
+        assertUsesIndexes();
+
+        contactService.searchByCursor(user, SearchContactRequest.builder().name("dhan").size(10).build());
+        assertUsesIndexes();
+    }
+
+    private void assertUsesIndexes() {
+        List<String> statements = RecordingStatementInspector.drain();
+        assertFalse(statements.isEmpty(), "tidak ada SQL yang dijalankan");
+        for (String sql : statements) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+            assertFalse(plan.contains("tableScan"), () -> "full scan:\n" + plan);
+        }
+    }
+}
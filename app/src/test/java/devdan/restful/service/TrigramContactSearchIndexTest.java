@@ -0,0 +1,178 @@
+package devdan.restful.service;
+
+import devdan.restful.entity.Contact;
+import devdan.restful.entity.User;
+import devdan.restful.model.request.CreateContactRequest;
+import devdan.restful.model.request.PatchContactRequest;
+import devdan.restful.model.request.SearchContactRequest;
+import devdan.restful.model.response.ContactResponse;
+import devdan.restful.repository.AddressRepository;
+import devdan.restful.repository.ContactRepository;
+import devdan.restful.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "contact.search.index=trigram")
+class TrigramContactSearchIndexTest {
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private TrigramContactSearchIndex index;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM contact_trigrams");
+        addressRepository.deleteAll();
+        contactRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = new User();
+        user.setUsername("test");
+        user.setPassword("-");
+        user.setName("Test");
+        userRepository.save(user);
+
+        create("Ardhani", "Ahlan", "ardhan@example.com", "0812114134");
+        create("Budi", "Santoso", "budi@example.org", "0857000111");
+        create("Citra", "Ardhani", null, null);
+        create("100%", "Asli", "a_b@example.com", null);
+    }
+
+    @Test
+    void searchByName() {
+        assertEquals(Set.of("Ardhani", "Citra"), firstNames(SearchContactRequest.builder().name("rdhan")));
+        assertEquals(Set.of("Budi"), firstNames(SearchContactRequest.builder().name("Santo")));
+        assertEquals(Set.of(), firstNames(SearchContactRequest.builder().name("tidakada")));
+        // kurang dari 3 karakter: tanpa trigram, LIKE saja
+        assertEquals(Set.of("Budi"), firstNames(SearchContactRequest.builder().name("ud")));
+    }
+
+    @Test
+    void searchByEmailAndPhone() {
+        assertEquals(Set.of("Budi"), firstNames(SearchContactRequest.builder().email("example.org")));
+        assertEquals(Set.of("Ardhani"), firstNames(SearchContactRequest.builder().email("example").phone("2114")));
+    }
+
+    @Test
+    void wildcardsAreLiteral() {
+        assertEquals(Set.of("100%"), firstNames(SearchContactRequest.builder().name("0%")));
+        assertEquals(Set.of("100%"), firstNames(SearchContactRequest.builder().email("a_b")));
+        assertEquals(Set.of(), firstNames(SearchContactRequest.builder().email("a%b")));
+    }
+
+    @Test
+    void updateAndDeleteKeepIndexInSync() {
+        ContactResponse budi = contactService.search(user, SearchContactRequest.builder().name("Budi").page(0).size(10).build())
+                .getContent().get(0);
+
+        PatchContactRequest patch = new PatchContactRequest();
+        patch.setId(budi.getId());
+        patch.setFirstname("Bambang");
+        contactService.patch(user, patch);
+
+        assertEquals(Set.of(), firstNames(SearchContactRequest.builder().name("Budi")));
+        assertEquals(Set.of("Bambang"), firstNames(SearchContactRequest.builder().name("bang")));
+
+        contactService.delete(user, budi.getId());
+        assertEquals(Set.of(), firstNames(SearchContactRequest.builder().name("bang")));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM contact_trigrams WHERE contact_id = ?",
+                Integer.class, budi.getId()));
+    }
+
+    @Test
+    void backfillIndexesContactsWrittenWithoutIndex() {
+        Contact contact = new Contact();
+        contact.setId("tanpa-index");
+        contact.setFirstName("Dewi");
+        contact.setUser(user);
+        contactRepository.save(contact);
+        assertEquals(Set.of(), firstNames(SearchContactRequest.builder().name("Dewi")));
+
+        index.backfill();
+        assertEquals(Set.of("Dewi"), firstNames(SearchContactRequest.builder().name("Dewi")));
+    }
+
+    @Test
+    void concurrentBackfillDoesNotDuplicatePostings() {
+        String id = contactService.search(user, SearchContactRequest.builder().name("Budi").page(0).size(10).build())
+                .getContent().get(0).getId();
+        int before = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM contact_trigrams", Integer.class);
+
+        // node lain sempat menulis posting yang sama
+        jdbcTemplate.update(TrigramContactSearchIndex.INSERT, "test", TrigramContactSearchIndex.NAME, "bud", id);
+        index.backfill();
+        index.scheduledCatchUp();
+
+        assertEquals(before, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM contact_trigrams", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM contact_trigrams WHERE contact_id = ? " +
+                "AND field = ? AND trigram = 'bud'", Integer.class, id, TrigramContactSearchIndex.NAME));
+    }
+
+    @Test
+    void trigramsUseCodePoints() {
+        assertEquals(List.of("abc", "bcd"), List.copyOf(TrigramContactSearchIndex.trigrams("ABCD")));
+        assertEquals(1, TrigramContactSearchIndex.trigrams("a😀b").size());
+        assertTrue(TrigramContactSearchIndex.trigrams("ab").isEmpty());
+    }
+
+    @Test
+    void selectsRarestTrigramsAndSkipsUnselectiveTerms() {
+        TrigramContactSearchIndex.TrigramStats stats = new TrigramContactSearchIndex.TrigramStats(Map.of(
+                "eexa", 9000L, "exam", 9000L, "eamp", 8000L, "empl", 8000L, "eple", 8000L,
+                "ebud", 3L, "eudi", 40L, "edi@", 50L), 10000);
+
+        assertEquals(List.of("bud", "udi"), stats.select(TrigramContactSearchIndex.EMAIL, "budi@"));
+        // trigram yang belum ada di statistik dianggap paling jarang
+        assertEquals(List.of("i@z", "bud"), stats.select(TrigramContactSearchIndex.EMAIL, "budi@z"));
+        // semua trigram umum: LIKE saja
+        assertEquals(List.of(), stats.select(TrigramContactSearchIndex.EMAIL, "example"));
+        assertEquals(List.of(), stats.select(TrigramContactSearchIndex.EMAIL, "ex"));
+        assertEquals(List.of(), stats.select(TrigramContactSearchIndex.NAME, null));
+    }
+
+    @Test
+    void searchWorksWithStats() {
+        index.refreshStats();
+        assertEquals(Set.of("Ardhani", "Citra"), firstNames(SearchContactRequest.builder().name("rdhan")));
+        assertEquals(Set.of("Ardhani"), firstNames(SearchContactRequest.builder().email("example").phone("2114")));
+    }
+
+    private void create(String firstName, String lastName, String email, String phone) {
+        CreateContactRequest request = new CreateContactRequest();
+        request.setFirstname(firstName);
+        request.setLastname(lastName);
+        request.setEmail(email);
+        request.setPhone(phone);
+        contactService.create(user, request);
+    }
+
+    private Set<String> firstNames(SearchContactRequest.SearchContactRequestBuilder request) {
+        List<ContactResponse> contacts = contactService.search(user, request.page(0).size(100).build()).getContent();
+        return Set.copyOf(contacts.stream().map(ContactResponse::getFirstname).toList());
+    }
+}
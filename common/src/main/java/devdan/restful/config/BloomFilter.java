@@ -0,0 +1,52 @@
+package devdan.restful.config;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// bloom filter sederhana untuk key yang sudah berupa hash sha-256 (hex)
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashFunctions;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int insertions = Math.max(1, expectedInsertions);
+        long size = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.max(64, Math.min(size, Integer.MAX_VALUE - 63));
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitSize + 63) / 64);
+    }
+
+    public void put(String sha256Hex) {
+        long h1 = Long.parseUnsignedLong(sha256Hex.substring(0, 16), 16);
+        long h2 = Long.parseUnsignedLong(sha256Hex.substring(16, 32), 16);
+        for (int i = 0; i < hashFunctions; i++) {
+            int bit = index(h1 + i * h2);
+            long mask = 1L << (bit & 63);
+            int word = bit >>> 6;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String sha256Hex) {
+        long h1 = Long.parseUnsignedLong(sha256Hex.substring(0, 16), 16);
+        long h2 = Long.parseUnsignedLong(sha256Hex.substring(16, 32), 16);
+        for (int i = 0; i < hashFunctions; i++) {
+            int bit = index(h1 + i * h2);
+            if ((bits.get(bit >>> 6) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(long hash) {
+        return (int) Long.remainderUnsigned(hash, bitSize);
+    }
+}
@@ -0,0 +1,70 @@
+package devdan.restful.config;
+
+import devdan.restful.resolver.JwtKeyRing;
+import devdan.restful.resolver.JwtUtil;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "jwt")
+public class JwtConfig {
+
+    private String secret;
+    private long expiration;
+    private int cacheSize = 10000;
+    // kid -> secret; jwt.secret tetap terdaftar sebagai kid "default" untuk token lama
+    private Map<String, String> keys = new LinkedHashMap<>();
+    private String activeKid;
+
+    // wajib ada getter & setter untuk binding
+    public String getSecret() {
+        return secret;
+    }
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+
+    public long getExpiration() {
+        return expiration;
+    }
+    public void setExpiration(long expiration) {
+        this.expiration = expiration;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public Map<String, String> getKeys() {
+        return keys;
+    }
+    public void setKeys(Map<String, String> keys) {
+        this.keys = keys;
+    }
+
+    public String getActiveKid() {
+        return activeKid;
+    }
+    public void setActiveKid(String activeKid) {
+        this.activeKid = activeKid;
+    }
+
+    @Bean
+    public JwtUtil jwtUtil() {
+        JwtKeyRing keyRing = new JwtKeyRing();
+        if (secret != null && !secret.isEmpty()) {
+            keyRing.add(JwtKeyRing.DEFAULT_KID, secret);
+        }
+        keys.forEach(keyRing::add);
+        keyRing.activate(activeKid != null ? activeKid : JwtKeyRing.DEFAULT_KID);
+
+        return new JwtUtil(keyRing, expiration, cacheSize);
+    }
+}
@@ -0,0 +1,97 @@
+package devdan.restful.config;
+
+import devdan.restful.resolver.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+// rotasi key tanpa restart: isi file dibaca ulang berkala lalu disinkronkan ke key ring
+//   active=kid2
+//   key.kid1=secret lama (masih dipakai verifikasi)
+//   key.kid2=secret baru (dipakai sign)
+@Component
+@ConditionalOnProperty(name = "jwt.keys-file")
+public class JwtKeysFileWatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeysFileWatcher.class);
+
+    private static final String KEY_PREFIX = "key.";
+
+    private final JwtUtil jwtUtil;
+    private final Path keysFile;
+
+    private long lastModified = -1;
+    // kid yang berasal dari file; key dari application.properties tidak pernah di-retire di sini
+    private Set<String> managedKids = Set.of();
+
+    public JwtKeysFileWatcher(JwtUtil jwtUtil, @Value("${jwt.keys-file}") String keysFile) {
+        this.jwtUtil = jwtUtil;
+        this.keysFile = Path.of(keysFile);
+        // saat startup file wajib ada dan valid
+        load();
+    }
+
+    // file hilang atau rusak di tengah jalan (mis. sedang ditulis ulang): key ring yang sekarang tetap dipakai
+    @Scheduled(fixedDelayString = "${jwt.keys-refresh-interval:60000}")
+    public void reload() {
+        try {
+            load();
+        } catch (UncheckedIOException | IllegalStateException e) {
+            log.error("Cannot reload JWT keys file {}, keeping the current keys", keysFile, e);
+        }
+    }
+
+    private synchronized void load() {
+        try {
+            long modified = Files.getLastModifiedTime(keysFile).toMillis();
+            if (modified == lastModified) {
+                return;
+            }
+
+            Properties properties = new Properties();
+            try (InputStream input = Files.newInputStream(keysFile)) {
+                properties.load(input);
+            }
+            apply(properties);
+            lastModified = modified;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read JWT keys file " + keysFile, e);
+        }
+    }
+
+    private void apply(Properties properties) {
+        Map<String, String> keys = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(KEY_PREFIX)) {
+                keys.put(name.substring(KEY_PREFIX.length()), properties.getProperty(name));
+            }
+        }
+
+        String active = properties.getProperty("active");
+        if (active == null || !keys.containsKey(active)) {
+            throw new IllegalStateException("JWT keys file " + keysFile + " has no valid active key");
+        }
+
+        keys.forEach(jwtUtil::addKey);
+        jwtUtil.activateKey(active);
+
+        Set<String> retired = new HashSet<>(managedKids);
+        retired.removeAll(keys.keySet());
+        retired.forEach(jwtUtil::retireKey);
+        managedKids = Set.copyOf(keys.keySet());
+    }
+}
@@ -0,0 +1,17 @@
+package devdan.restful.config;
+
+import java.util.function.Consumer;
+
+public interface RevocationStore {
+
+    void revoke(String tokenHash, long expiresAt);
+
+    boolean isRevoked(String tokenHash, long now);
+
+    int purgeExpired(long now);
+
+    void forEachActive(long now, Consumer<String> consumer);
+
+    // hanya token yang di-revoke sejak `since` (termasuk), untuk refresh inkremental
+    void forEachRevokedSince(long since, long now, Consumer<String> consumer);
+}
@@ -0,0 +1,169 @@
+package devdan.restful.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class TokenBlacklist {
+
+    private final RevocationStore revocationStore;
+    private final int expectedTokens;
+    private final double falsePositiveRate;
+    private final long overlapMillis;
+    private final long rebuildIntervalMillis;
+
+    // bloom filter lokal di depan store, supaya pengecekan token yang tidak di-revoke tetap di memory
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong purged = new AtomicLong();
+    private final AtomicLong purgeRuns = new AtomicLong();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // waktu mulai refresh terakhir, hanya diakses di bawah refreshLock
+    private long watermark;
+    private long lastRebuild;
+
+    public TokenBlacklist(RevocationStore revocationStore, int expectedTokens, double falsePositiveRate) {
+        this(revocationStore, expectedTokens, falsePositiveRate, 30000, 3600000);
+    }
+
+    @Autowired
+    public TokenBlacklist(RevocationStore revocationStore,
+                          @Value("${token.blacklist.expected-tokens:100000}") int expectedTokens,
+                          @Value("${token.blacklist.false-positive-rate:0.01}") double falsePositiveRate,
+                          @Value("${token.blacklist.refresh-overlap:30000}") long overlapMillis,
+                          @Value("${token.blacklist.rebuild-interval:3600000}") long rebuildIntervalMillis) {
+        this.revocationStore = revocationStore;
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.overlapMillis = overlapMillis;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        rebuild();
+    }
+
+    public void add(String token, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+
+        String tokenHash = TokenDigests.sha256(token);
+        revocationStore.revoke(tokenHash, expiresAt);
+
+        // di dalam transaksi (logout) baris revoke belum terlihat oleh rebuild sampai commit: dimasukkan ke
+        // filter setelah commit supaya rebuild yang sedang membaca store tidak menimpanya dengan filter tanpa token ini
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(tokenHash);
+                }
+            });
+        } else {
+            publish(tokenHash);
+        }
+    }
+
+    // rebuilding dibaca sebelum filter: rebuild yang mulai setelah commit membaca token ini dari store, yang sedang
+    // berjalan menerimanya lewat rebuilding, dan yang sudah selesai sudah menukar filter sebelum rebuilding dikosongkan
+    private void publish(String tokenHash) {
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(tokenHash);
+        }
+        filter.put(tokenHash);
+        size.incrementAndGet();
+    }
+
+    public boolean contains(String token){
+        String tokenHash = TokenDigests.sha256(token);
+        if (!filter.mightContain(tokenHash)) {
+            return false;
+        }
+        return revocationStore.isRevoked(tokenHash, System.currentTimeMillis());
+    }
+
+    // hanya bloom filter, tanpa I/O: false berarti token pasti belum di-revoke. Dipakai stack reactive yang
+    // mengonfirmasi hit ke store secara non-blocking
+    public boolean mightContain(String token) {
+        return filter.mightContain(TokenDigests.sha256(token));
+    }
+
+    @Scheduled(fixedDelayString = "${token.blacklist.purge-interval:60000}")
+    public void purgeExpired() {
+        purged.addAndGet(revocationStore.purgeExpired(System.currentTimeMillis()));
+        purgeRuns.incrementAndGet();
+    }
+
+    // ambil revoke dari node lain: hanya baris sejak watermark (dikurangi overlap untuk clock skew antar node
+    // dan transaksi yang commit terlambat). Rebuild penuh sesekali untuk membuang token yang sudah kedaluwarsa
+    @Scheduled(fixedDelayString = "${token.blacklist.refresh-interval:5000}",
+            initialDelayString = "${token.blacklist.refresh-interval:5000}")
+    public void refresh() {
+        // lock, bukan synchronized: refresh membaca store (JDBC) dan synchronized mem-pin virtual thread
+        refreshLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (now - lastRebuild >= rebuildIntervalMillis) {
+                rebuild();
+                return;
+            }
+
+            BloomFilter current = filter;
+            revocationStore.forEachRevokedSince(watermark - overlapMillis, now, tokenHash -> {
+                // overlap membuat baris yang sama terbaca lagi, jangan dihitung dua kali
+                if (!current.mightContain(tokenHash)) {
+                    current.put(tokenHash);
+                    size.incrementAndGet();
+                }
+            });
+            watermark = now;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public void rebuild() {
+        refreshLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            BloomFilter next = new BloomFilter(expectedTokens, falsePositiveRate);
+            rebuilding = next;
+
+            AtomicInteger count = new AtomicInteger();
+            revocationStore.forEachActive(now, tokenHash -> {
+                next.put(tokenHash);
+                count.incrementAndGet();
+            });
+
+            filter = next;
+            rebuilding = null;
+            size.set(count.get());
+            watermark = now;
+            lastRebuild = now;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public long getPurged() {
+        return purged.get();
+    }
+
+    public long getPurgeRuns() {
+        return purgeRuns.get();
+    }
+}
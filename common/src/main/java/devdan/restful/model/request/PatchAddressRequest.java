@@ -0,0 +1,43 @@
+package devdan.restful.model.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// field null = tidak diubah
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PatchAddressRequest {
+    @JsonIgnore
+    @NotBlank
+    private String idContact;
+
+    @JsonIgnore
+    @NotBlank
+    private String idAddress;
+
+    // dari header If-Match
+    @JsonIgnore
+    private Long version;
+
+    @Size(max = 100)
+    private String street;
+
+    @Size(max = 100)
+    private String city;
+
+    @Size(max = 100)
+    private String province;
+
+    @Size(min = 1, max = 100)
+    private String country;
+
+    @Size(max = 100)
+    private String postalCode;
+}
@@ -0,0 +1,40 @@
+package devdan.restful.model.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// field null = tidak diubah
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PatchContactRequest {
+
+    @JsonIgnore
+    @NotBlank
+    private String id;
+
+    // dari header If-Match
+    @JsonIgnore
+    private Long version;
+
+    @Size(min = 1, max = 100)
+    private String firstname;
+
+    @Size(max = 100)
+    private String lastname;
+
+    @Size(max = 100)
+    @Email
+    private String email;
+
+    @Size(max = 100)
+    private String phone;
+
+}
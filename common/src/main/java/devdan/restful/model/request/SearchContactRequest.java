@@ -20,4 +20,10 @@ public class SearchContactRequest {
     private Integer page;
     @NotNull
     private Integer size;
+
+    // keyset paging, hanya di aplikasi utama
+    private String cursor;
+
+    // exact | estimate | none
+    private String count;
 }
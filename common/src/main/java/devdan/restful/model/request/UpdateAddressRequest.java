@@ -21,6 +21,10 @@ public class UpdateAddressRequest {
     @NotBlank
     private String idAddress;
 
+    // dari header If-Match
+    @JsonIgnore
+    private Long version;
+
     @Size(max = 100)
     private String street;
 
@@ -19,6 +19,10 @@ public class UpdateContactRequest {
     @NotBlank
     private String id;
 
+    // dari header If-Match
+    @JsonIgnore
+    private Long version;
+
     @NotBlank
     @Size(max = 100)
     private String firstname;
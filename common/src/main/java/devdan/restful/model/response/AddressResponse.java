@@ -2,6 +2,7 @@ package devdan.restful.model.response;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,4 +25,8 @@ public class AddressResponse {
     private String country;
 
     private String postalCode;
+
+    // hanya untuk ETag, tidak ikut diserialisasi
+    @JsonIgnore
+    private Long version;
 }
@@ -0,0 +1,28 @@
+package devdan.restful.model.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContactResponse {
+
+    private String id;
+
+    private String firstname;
+
+    private String lastname;
+
+    private String email;
+
+    private String phone;
+
+    // hanya untuk ETag, tidak ikut diserialisasi
+    @JsonIgnore
+    private Long version;
+}
@@ -13,5 +13,8 @@ public class PagingResponse {
 
     private Integer currentPage;
     private Integer totalPage;
+    private Boolean approximate;
     private Integer size;
+    private String nextCursor;
+    private Boolean hasMore;
 }
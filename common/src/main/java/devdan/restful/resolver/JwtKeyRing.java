@@ -0,0 +1,125 @@
+package devdan.restful.resolver;
+
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+
+// kumpulan key HMAC yang aktif, dipilih lewat header "kid"; bisa diubah saat runtime tanpa restart
+public class JwtKeyRing {
+
+    public static final String DEFAULT_KID = "default";
+
+    // Mac menyimpan state, jadi tidak bisa dibagi antar thread tanpa pool
+    private static final int MAC_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private volatile Map<String, JwtKey> keys = Map.of();
+    private volatile JwtKey signingKey;
+
+    public synchronized void add(String kid, String secret) {
+        JwtKey existing = keys.get(kid);
+        if (existing != null && existing.secret().equals(secret)) {
+            return;
+        }
+
+        Map<String, JwtKey> copy = new HashMap<>(keys);
+        JwtKey key = new JwtKey(kid, secret);
+        copy.put(kid, key);
+        keys = Map.copyOf(copy);
+        if (signingKey != null && signingKey.kid().equals(kid)) {
+            signingKey = key;
+        }
+    }
+
+    public synchronized void activate(String kid) {
+        JwtKey key = keys.get(kid);
+        if (key == null) {
+            throw new IllegalArgumentException("Unknown JWT key: " + kid);
+        }
+        signingKey = key;
+    }
+
+    public synchronized boolean retire(String kid) {
+        if (signingKey != null && signingKey.kid().equals(kid)) {
+            throw new IllegalStateException("Cannot retire the signing JWT key: " + kid);
+        }
+        if (!keys.containsKey(kid)) {
+            return false;
+        }
+
+        Map<String, JwtKey> copy = new HashMap<>(keys);
+        copy.remove(kid);
+        keys = Map.copyOf(copy);
+        return true;
+    }
+
+    public JwtKey signingKey() {
+        JwtKey key = signingKey;
+        if (key == null) {
+            throw new IllegalStateException("No active JWT signing key");
+        }
+        return key;
+    }
+
+    public JwtKey get(String kid) {
+        return keys.get(kid);
+    }
+
+    public Set<String> kids() {
+        return keys.keySet();
+    }
+
+    public static final class JwtKey {
+
+        private final String kid;
+        private final String secret;
+        private final SecretKey secretKey;
+        // Mac yang sudah di-init dengan key ini. Pool terbatas, bukan ThreadLocal: virtual thread dibuat per request
+        // sehingga ThreadLocal tidak pernah dipakai ulang. poll/offer tidak pernah menunggu, kosong berarti buat baru
+        private final ArrayBlockingQueue<Mac> macs = new ArrayBlockingQueue<>(MAC_POOL_SIZE);
+
+        private JwtKey(String kid, String secret) {
+            this.kid = kid;
+            this.secret = secret;
+            this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        }
+
+        // HS256; doFinal me-reset Mac sehingga bisa langsung dikembalikan ke pool
+        public byte[] sign(byte[] data) {
+            Mac mac = macs.poll();
+            if (mac == null) {
+                mac = newMac();
+            }
+            byte[] signature = mac.doFinal(data);
+            macs.offer(mac);
+            return signature;
+        }
+
+        private Mac newMac() {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(secretKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialise HmacSHA256 for JWT key " + kid, e);
+            }
+        }
+
+        public String kid() {
+            return kid;
+        }
+
+        private String secret() {
+            return secret;
+        }
+
+        public SecretKey secretKey() {
+            return secretKey;
+        }
+    }
+}
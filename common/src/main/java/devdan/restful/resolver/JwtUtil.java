@@ -0,0 +1,222 @@
+package devdan.restful.resolver;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+public class JwtUtil {
+
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final JwtKeyRing keyRing;
+    private final long expirationMillis;
+
+    // dibatasi ukurannya (eviction oleh Caffeine), entry hilang sendiri saat token kedaluwarsa; null jika cache mati
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtUtil(String secret, long expirationMillis) {
+        this(secret, expirationMillis, 10000);
+    }
+
+    public JwtUtil(String secret, long expirationMillis, int cacheSize) {
+        this(singleKey(secret), expirationMillis, cacheSize);
+    }
+
+    public JwtUtil(JwtKeyRing keyRing, long expirationMillis, int cacheSize) {
+        this.keyRing = keyRing;
+        this.expirationMillis = expirationMillis;
+        this.verifiedTokens = cacheSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, verified.expiresAt() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    private static JwtKeyRing singleKey(String secret) {
+        JwtKeyRing keyRing = new JwtKeyRing();
+        keyRing.add(JwtKeyRing.DEFAULT_KID, secret);
+        keyRing.activate(JwtKeyRing.DEFAULT_KID);
+        return keyRing;
+    }
+
+    public JwtKeyRing getKeyRing() {
+        return keyRing;
+    }
+
+    public void addKey(String kid, String secret) {
+        keyRing.add(kid, secret);
+        evictKey(kid);
+    }
+
+    public void activateKey(String kid) {
+        keyRing.activate(kid);
+    }
+
+    // token yang di-sign key ini langsung ditolak, termasuk yang sudah ada di cache
+    public boolean retireKey(String kid) {
+        boolean retired = keyRing.retire(kid);
+        evictKey(kid);
+        return retired;
+    }
+
+    private void evictKey(String kid) {
+        if (verifiedTokens != null) {
+            verifiedTokens.asMap().values().removeIf(entry -> entry.kid().equals(kid));
+        }
+    }
+
+    public String generatedToken(String username){
+        return generateTokenWithExpiration(username, expirationMillis);
+    }
+
+    public String generateTokenWithExpiration(String username, long expirationMillis) {
+        long nowMillis = System.currentTimeMillis();
+        long expMillis = nowMillis + expirationMillis;
+        Date exp = new Date(expMillis);
+        JwtKeyRing.JwtKey key = keyRing.signingKey();
+
+        return Jwts.builder()
+                .setHeaderParam("kid", key.kid())
+                .setSubject(username)
+                .setIssuedAt(new Date(nowMillis))
+                .setExpiration(exp)
+                .setIssuer("devdan-app")
+                .signWith(key.secretKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public String validateAndGetUsername(String token){
+        return verify(token).subject();
+    }
+
+    public Long getExpirationTime(String token){
+        return verify(token).expiresAt();
+    }
+
+    // khusus logout: token yang sudah kedaluwarsa tetap dikenali pemiliknya, signature tetap diperiksa
+    public TokenSubject getSubjectAllowExpired(String token){
+        VerifiedToken verified = parse(token, System.currentTimeMillis());
+        return new TokenSubject(verified.subject(), verified.expiresAt());
+    }
+
+    private VerifiedToken verify(String token){
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verifiedTokens == null ? null : verifiedTokens.getIfPresent(token);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached;
+        }
+
+        VerifiedToken verified = parse(token, now);
+        if (verified.expiresAt() <= now) {
+            throw invalidToken(null);
+        }
+        // key bisa saja di-retire di antara verifikasi dan put
+        if (verifiedTokens != null && keyRing.get(verified.kid()) != null) {
+            verifiedTokens.put(token, verified);
+        }
+        return verified;
+    }
+
+    // verifikasi HS256 langsung dengan Mac dari pool milik key, tanpa parser jjwt yang membuat Mac baru per token.
+    // Signature, alg, nbf, sub dan exp diperiksa; exp sengaja tidak ditolak di sini (lihat getSubjectAllowExpired)
+    private VerifiedToken parse(String token, long now){
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0 || !hasCanonicalSignature(token)) {
+            throw invalidToken(null);
+        }
+
+        try {
+            JsonNode header = JSON.readTree(BASE64_URL.decode(token.substring(0, firstDot)));
+            if (!"HS256".equals(header.path("alg").asText())) {
+                throw invalidToken(null);
+            }
+
+            // token lama tidak punya kid, selalu di-sign dengan jwt.secret
+            String kid = header.path("kid").asText(JwtKeyRing.DEFAULT_KID);
+            JwtKeyRing.JwtKey key = keyRing.get(kid);
+            if (key == null) {
+                throw invalidToken(null);
+            }
+
+            byte[] expected = key.sign(token.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII));
+            byte[] actual = BASE64_URL.decode(token.substring(secondDot + 1));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                throw invalidToken(null);
+            }
+
+            JsonNode claims = JSON.readTree(BASE64_URL.decode(token.substring(firstDot + 1, secondDot)));
+            JsonNode exp = claims.get("exp");
+            JsonNode sub = claims.get("sub");
+            if (exp == null || !exp.isNumber() || sub == null || !sub.isTextual()) {
+                throw invalidToken(null);
+            }
+
+            JsonNode nbf = claims.get("nbf");
+            if (nbf != null && (!nbf.isNumber() || nbf.asLong() * 1000 > now)) {
+                throw invalidToken(null);
+            }
+
+            return new VerifiedToken(sub.asText(), exp.asLong() * 1000, kid);
+        } catch (IOException | IllegalArgumentException e) {
+            throw invalidToken(e);
+        }
+    }
+
+    // base64url longgar: bit sisa dan padding di karakter terakhir tidak ditolak, sehingga satu signature punya
+    // beberapa teks. Blacklist dan cache memakai teks token sebagai key, jadi hanya bentuk kanonik yang diterima
+    private static boolean hasCanonicalSignature(String token){
+        int lastDot = token.lastIndexOf('.');
+        if (lastDot < 0) {
+            return false;
+        }
+
+        String signature = token.substring(lastDot + 1);
+        try {
+            return BASE64_URL_ENCODER.encodeToString(BASE64_URL.decode(signature)).equals(signature);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static ResponseStatusException invalidToken(Exception cause){
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid JWT token", cause);
+    }
+
+    public record TokenSubject(String username, long expiresAt) {
+    }
+
+    private record VerifiedToken(String subject, long expiresAt, String kid) {
+    }
+
+}
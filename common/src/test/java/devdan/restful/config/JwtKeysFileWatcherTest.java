@@ -0,0 +1,42 @@
+package devdan.restful.config;
+
+import devdan.restful.resolver.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeysFileWatcherTest {
+
+    private static final String SECRET = "rahasiaSuperAmanBangetYangSangatPanjang123456";
+    private static final String NEW_SECRET = "rahasiaBaruYangJugaSangatPanjangSekali7890123";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void missingFileKeepsCurrentKeys() throws Exception {
+        Path keysFile = directory.resolve("jwt-keys.properties");
+        Files.writeString(keysFile, "active=k2\nkey.k2=" + NEW_SECRET + "\n");
+
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60000, 100);
+        JwtKeysFileWatcher watcher = new JwtKeysFileWatcher(jwtUtil, keysFile.toString());
+        String token = jwtUtil.generatedToken("test");
+
+        Files.delete(keysFile);
+        assertDoesNotThrow(watcher::reload);
+
+        assertEquals("k2", jwtUtil.getKeyRing().signingKey().kid());
+        assertEquals("test", jwtUtil.validateAndGetUsername(token));
+    }
+
+    @Test
+    void missingFileFailsStartup() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60000, 100);
+        assertThrows(RuntimeException.class,
+                () -> new JwtKeysFileWatcher(jwtUtil, directory.resolve("tidak-ada.properties").toString()));
+    }
+}
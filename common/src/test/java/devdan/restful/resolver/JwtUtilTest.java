@@ -0,0 +1,119 @@
+package devdan.restful.resolver;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String OLD_SECRET = "rahasiaSuperAmanBangetYangSangatPanjang123456";
+    private static final String NEW_SECRET = "rahasiaBaruYangJugaSangatPanjangSekali7890123";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil(OLD_SECRET, 120000, 100);
+    }
+
+    @Test
+    void expirationFollowsConfiguration() {
+        long before = System.currentTimeMillis();
+        String token = jwtUtil.generatedToken("test");
+
+        assertEquals("test", jwtUtil.validateAndGetUsername(token));
+        long expiresAt = jwtUtil.getExpirationTime(token);
+        assertTrue(expiresAt >= before / 1000 * 1000 + 119000);
+        assertTrue(expiresAt <= before + 121000);
+    }
+
+    @Test
+    void tokenWithoutKidUsesDefaultKey() {
+        String legacyToken = Jwts.builder()
+                .setSubject("test")
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(Keys.hmacShaKeyFor(OLD_SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertEquals("test", jwtUtil.validateAndGetUsername(legacyToken));
+    }
+
+    @Test
+    void rotateKeyKeepsOldTokensValidUntilRetired() {
+        String oldToken = jwtUtil.generatedToken("test");
+        assertEquals("test", jwtUtil.validateAndGetUsername(oldToken));
+
+        jwtUtil.addKey("k2", NEW_SECRET);
+        jwtUtil.activateKey("k2");
+        String newToken = jwtUtil.generatedToken("test");
+
+        assertEquals("test", jwtUtil.validateAndGetUsername(oldToken));
+        assertEquals("test", jwtUtil.validateAndGetUsername(newToken));
+
+        assertTrue(jwtUtil.retireKey(JwtKeyRing.DEFAULT_KID));
+        assertThrows(ResponseStatusException.class, () -> jwtUtil.validateAndGetUsername(oldToken));
+        assertEquals("test", jwtUtil.validateAndGetUsername(newToken));
+    }
+
+    @Test
+    void signingKeyCannotBeRetired() {
+        assertThrows(IllegalStateException.class, () -> jwtUtil.retireKey(JwtKeyRing.DEFAULT_KID));
+    }
+
+    @Test
+    void rejectsInvalidTokens() {
+        String token = jwtUtil.generatedToken("test");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(ResponseStatusException.class, () -> jwtUtil.validateAndGetUsername(tampered));
+        assertThrows(ResponseStatusException.class, () -> jwtUtil.validateAndGetUsername("bukan.token"));
+        assertThrows(ResponseStatusException.class, () -> jwtUtil.validateAndGetUsername("a.b.c"));
+        assertThrows(ResponseStatusException.class,
+                () -> jwtUtil.validateAndGetUsername(jwtUtil.generateTokenWithExpiration("test", -1000)));
+
+        String otherKey = new JwtUtil(NEW_SECRET, 60000).generatedToken("test");
+        assertThrows(ResponseStatusException.class, () -> jwtUtil.validateAndGetUsername(otherKey));
+    }
+
+    @Test
+    void rejectsNonCanonicalSignatureEncoding() {
+        String token = jwtUtil.generatedToken("test");
+        assertEquals("test", jwtUtil.validateAndGetUsername(token));
+
+        // 32 byte signature = 43 karakter; 2 bit terakhir karakter ke-43 tidak dipakai decoder
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        char last = token.charAt(token.length() - 1);
+        String reencoded = token.substring(0, token.length() - 1) + alphabet.charAt(alphabet.indexOf(last) ^ 1);
+
+        assertThrows(ResponseStatusException.class, () -> jwtUtil.validateAndGetUsername(reencoded));
+        assertThrows(ResponseStatusException.class, () -> jwtUtil.validateAndGetUsername(token + "="));
+    }
+
+    @Test
+    void rejectsTokenBeforeNotBefore() {
+        String future = Jwts.builder()
+                .setSubject("test")
+                .setNotBefore(new Date(System.currentTimeMillis() + 60000))
+                .setExpiration(new Date(System.currentTimeMillis() + 120000))
+                .signWith(Keys.hmacShaKeyFor(OLD_SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThrows(ResponseStatusException.class, () -> jwtUtil.validateAndGetUsername(future));
+    }
+
+    @Test
+    void expiredTokenSubjectStillRequiresValidSignature() {
+        String expired = jwtUtil.generateTokenWithExpiration("test", -1000);
+        assertEquals("test", jwtUtil.getSubjectAllowExpired(expired).username());
+
+        String tampered = expired.substring(0, expired.lastIndexOf('.') + 1) + "A".repeat(43);
+        assertThrows(ResponseStatusException.class, () -> jwtUtil.getSubjectAllowExpired(tampered));
+    }
+}
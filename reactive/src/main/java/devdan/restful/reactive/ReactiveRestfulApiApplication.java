@@ -0,0 +1,22 @@
+package devdan.restful.reactive;
+
+import devdan.restful.config.JwtConfig;
+import devdan.restful.config.JwtKeysFileWatcher;
+import devdan.restful.config.TokenBlacklist;
+import devdan.restful.service.ValidationService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// JWT, blacklist dan validasi dari modul common; RevocationStore-nya R2dbcRevocationStore, bukan store JDBC/memory aplikasi utama
+@SpringBootApplication
+@EnableScheduling
+@Import({JwtConfig.class, JwtKeysFileWatcher.class, TokenBlacklist.class, ValidationService.class})
+public class ReactiveRestfulApiApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveRestfulApiApplication.class, args);
+	}
+
+}
@@ -0,0 +1,19 @@
+package devdan.restful.reactive;
+
+import devdan.restful.reactive.resolver.JwtArgumentResolver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+@Configuration
+public class WebConfiguration implements WebFluxConfigurer {
+
+    @Autowired
+    private JwtArgumentResolver jwtArgumentResolver;
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(jwtArgumentResolver);
+    }
+}
@@ -0,0 +1,90 @@
+package devdan.restful.reactive.config;
+
+import devdan.restful.config.RevocationStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Consumer;
+
+// tabel revoked_tokens yang sama dengan JdbcRevocationStore aplikasi utama. Method sinkron hanya untuk TokenBlacklist
+// (startup dan thread scheduler); dari event loop pakai isRevokedAsync, block() di sana dilempar sebagai error.
+// TokenBlacklist sudah membaca tabel di constructor, jadi tunggu inisialisasi skema (schema.sql di test)
+@Component
+@DependsOnDatabaseInitialization
+public class R2dbcRevocationStore implements RevocationStore {
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcRevocationStore(DatabaseClient databaseClient,
+                                @Value("${token.revocation.store:memory}") String store) {
+        // store memory di aplikasi utama tidak terlihat dari sini: logout akan diam-diam diabaikan
+        if (!"jdbc".equals(store)) {
+            throw new IllegalStateException("Reactive API reads revocations from revoked_tokens, "
+                    + "token.revocation.store must be jdbc but was " + store);
+        }
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Boolean> isRevokedAsync(String tokenHash, long now) {
+        return databaseClient.sql("SELECT COUNT(*) FROM revoked_tokens WHERE token_hash = :tokenHash AND expires_at > :now")
+                .bind("tokenHash", tokenHash)
+                .bind("now", now)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    @Override
+    public void revoke(String tokenHash, long expiresAt) {
+        databaseClient.sql("INSERT INTO revoked_tokens (token_hash, expires_at, revoked_at) VALUES (:tokenHash, :expiresAt, :revokedAt)")
+                .bind("tokenHash", tokenHash)
+                .bind("expiresAt", expiresAt)
+                .bind("revokedAt", System.currentTimeMillis())
+                .then()
+                // token sudah di-revoke sebelumnya
+                .onErrorResume(DataIntegrityViolationException.class, e -> Mono.empty())
+                .block();
+    }
+
+    @Override
+    public boolean isRevoked(String tokenHash, long now) {
+        return Boolean.TRUE.equals(isRevokedAsync(tokenHash, now).block());
+    }
+
+    @Override
+    public int purgeExpired(long now) {
+        Long deleted = databaseClient.sql("DELETE FROM revoked_tokens WHERE expires_at <= :now")
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .block();
+        return deleted == null ? 0 : deleted.intValue();
+    }
+
+    @Override
+    public void forEachActive(long now, Consumer<String> consumer) {
+        databaseClient.sql("SELECT token_hash FROM revoked_tokens WHERE expires_at > :now")
+                .bind("now", now)
+                .map(row -> row.get(0, String.class))
+                .all()
+                .doOnNext(consumer)
+                .then()
+                .block();
+    }
+
+    @Override
+    public void forEachRevokedSince(long since, long now, Consumer<String> consumer) {
+        databaseClient.sql("SELECT token_hash FROM revoked_tokens WHERE revoked_at >= :since AND expires_at > :now")
+                .bind("since", since)
+                .bind("now", now)
+                .map(row -> row.get(0, String.class))
+                .all()
+                .doOnNext(consumer)
+                .then()
+                .block();
+    }
+}
@@ -0,0 +1,133 @@
+package devdan.restful.reactive.controller;
+
+import devdan.restful.model.request.CreateAddressRequest;
+import devdan.restful.model.request.PatchAddressRequest;
+import devdan.restful.model.request.UpdateAddressRequest;
+import devdan.restful.model.response.AddressResponse;
+import devdan.restful.model.response.WebResponse;
+import devdan.restful.reactive.entity.User;
+import devdan.restful.reactive.service.AddressService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+public class AddressController {
+
+    @Autowired
+    private AddressService addressService;
+
+    @PostMapping(
+            path = "/api/contacts/{idContact}/addresses",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<AddressResponse>> create(
+            User user,
+            @RequestBody CreateAddressRequest request,
+            @PathVariable("idContact") String id
+    ){
+        request.setIdContact(id);
+        return addressService.create(user, request)
+                .map(response -> WebResponse.<AddressResponse>builder().data(response).build());
+    }
+
+    @GetMapping(
+            path = "/api/contacts/{idContact}/addresses/{idAddress}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<AddressResponse>> get(
+            User user,
+            @PathVariable("idContact") String idContact,
+            @PathVariable("idAddress") String idAddress,
+            ServerWebExchange exchange
+    ){
+        return ETags.notModified(exchange, addressService.getVersion(user, idContact, idAddress))
+                .flatMap(notModified -> notModified ? Mono.empty() : addressService.get(user, idContact, idAddress))
+                .map(response -> {
+                    exchange.checkNotModified(ETags.of(response.getVersion()));
+                    return WebResponse.<AddressResponse>builder().data(response).build();
+                });
+    }
+
+    @PutMapping(
+            path = "/api/contacts/{idContact}/addresses/{idAddress}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<AddressResponse>> update(
+            User user,
+            @RequestBody UpdateAddressRequest request,
+            @PathVariable("idContact") String idContact,
+            @PathVariable("idAddress") String idAddress,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            ServerWebExchange exchange
+    ){
+        request.setIdContact(idContact);
+        request.setIdAddress(idAddress);
+        request.setVersion(ETags.ifMatch(ifMatch));
+
+        return addressService.update(user, request)
+                .map(response -> {
+                    ETags.write(exchange.getResponse(), response.getVersion());
+                    return WebResponse.<AddressResponse>builder().data(response).build();
+                });
+    }
+
+    @PatchMapping(
+            path = "/api/contacts/{idContact}/addresses/{idAddress}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<AddressResponse>> patch(
+            User user,
+            @RequestBody PatchAddressRequest request,
+            @PathVariable("idContact") String idContact,
+            @PathVariable("idAddress") String idAddress,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            ServerWebExchange exchange
+    ){
+        request.setIdContact(idContact);
+        request.setIdAddress(idAddress);
+        request.setVersion(ETags.ifMatch(ifMatch));
+
+        return addressService.patch(user, request)
+                .map(response -> {
+                    ETags.write(exchange.getResponse(), response.getVersion());
+                    return WebResponse.<AddressResponse>builder().data(response).build();
+                });
+    }
+
+    @DeleteMapping(
+            path = "/api/contacts/{idContact}/addresses/{idAddress}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<String>> delete(
+            User user,
+            @PathVariable("idContact") String idContact,
+            @PathVariable("idAddress") String idAddress
+    ){
+        return addressService.remove(user, idContact, idAddress)
+                .thenReturn(WebResponse.<String>builder().data("OK").build());
+    }
+
+    @GetMapping(
+            path = "/api/contacts/{idContact}/addresses",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<List<AddressResponse>>> list(
+            User user,
+            @PathVariable("idContact") String idContact,
+            ServerWebExchange exchange
+    ){
+        return addressService.list(user, idContact)
+                .flatMap(response -> exchange.checkNotModified(ETags.of(response))
+                        ? Mono.empty()
+                        : Mono.just(WebResponse.<List<AddressResponse>>builder().data(response).build()));
+    }
+}
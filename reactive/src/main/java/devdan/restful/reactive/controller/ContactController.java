@@ -0,0 +1,144 @@
+package devdan.restful.reactive.controller;
+
+import devdan.restful.model.request.CreateContactRequest;
+import devdan.restful.model.request.PatchContactRequest;
+import devdan.restful.model.request.SearchContactRequest;
+import devdan.restful.model.request.UpdateContactRequest;
+import devdan.restful.model.response.ContactResponse;
+import devdan.restful.model.response.PagingResponse;
+import devdan.restful.model.response.WebResponse;
+import devdan.restful.reactive.entity.User;
+import devdan.restful.reactive.service.ContactService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+public class ContactController {
+
+    @Autowired
+    private ContactService contactService;
+
+    @PostMapping(
+            path = "/api/contacts",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<ContactResponse>> create(User user, @RequestBody CreateContactRequest request){
+        return contactService.create(user, request)
+                .map(response -> WebResponse.<ContactResponse>builder().data(response).build());
+    }
+
+    @GetMapping(
+            path = "/api/contacts/{idContact}",
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<ContactResponse>> get(User user, @PathVariable("idContact") String id, ServerWebExchange exchange){
+        return ETags.notModified(exchange, contactService.getVersion(user, id))
+                .flatMap(notModified -> notModified ? Mono.empty() : contactService.get(user, id))
+                .map(response -> {
+                    exchange.checkNotModified(ETags.of(response.getVersion()));
+                    return WebResponse.<ContactResponse>builder().data(response).build();
+                });
+    }
+
+    @PutMapping(
+            path = "/api/contacts/{idContact}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<ContactResponse>> update(
+            User user,
+            @RequestBody UpdateContactRequest request,
+            @PathVariable("idContact") String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            ServerWebExchange exchange
+    ){
+        request.setId(id);
+        request.setVersion(ETags.ifMatch(ifMatch));
+
+        return contactService.update(user, request)
+                .map(response -> {
+                    ETags.write(exchange.getResponse(), response.getVersion());
+                    return WebResponse.<ContactResponse>builder().data(response).build();
+                });
+    }
+
+    @PatchMapping(
+            path = "/api/contacts/{idContact}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<ContactResponse>> patch(
+            User user,
+            @RequestBody PatchContactRequest request,
+            @PathVariable("idContact") String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            ServerWebExchange exchange
+    ){
+        request.setId(id);
+        request.setVersion(ETags.ifMatch(ifMatch));
+
+        return contactService.patch(user, request)
+                .map(response -> {
+                    ETags.write(exchange.getResponse(), response.getVersion());
+                    return WebResponse.<ContactResponse>builder().data(response).build();
+                });
+    }
+
+    @DeleteMapping(
+            path = "/api/contacts/{idContact}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<String>> delete(User user, @PathVariable("idContact") String id){
+        return contactService.delete(user, id)
+                .thenReturn(WebResponse.<String>builder().data("OK").build());
+    }
+
+    @GetMapping(
+            path = "/api/contacts",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<WebResponse<List<ContactResponse>>> search(
+            User user,
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "phone", required = false) String phone,
+            @RequestParam(value = "page", required = false, defaultValue = "0") Integer page,
+            @RequestParam(value = "size", required = false, defaultValue = "10") Integer size,
+            @RequestParam(value = "count", required = false, defaultValue = "exact") String count
+    ){
+        SearchContactRequest request = SearchContactRequest.builder()
+                .name(name)
+                .email(email)
+                .phone(phone)
+                .page(page)
+                .size(size)
+                .count(count)
+                .build();
+
+        return contactService.search(user, request)
+                .map(responseSlice -> {
+                    PagingResponse.PagingResponseBuilder paging = PagingResponse.builder()
+                            .currentPage(responseSlice.getNumber())
+                            .size(responseSlice.getSize())
+                            .hasMore(responseSlice.hasNext());
+
+                    if (responseSlice instanceof Page<ContactResponse> responsePage) {
+                        paging.totalPage(responsePage.getTotalPages())
+                                .approximate(false);
+                    }
+
+                    return WebResponse.<List<ContactResponse>>builder()
+                            .data(responseSlice.getContent())
+                            .pagingResponse(paging.build())
+                            .build();
+                });
+    }
+}
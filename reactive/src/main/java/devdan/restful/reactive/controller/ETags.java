@@ -0,0 +1,64 @@
+package devdan.restful.reactive.controller;
+
+import devdan.restful.config.TokenDigests;
+import devdan.restful.model.response.AddressResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// ETag kuat dari kolom @Version, format sama dengan aplikasi utama
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // ETag daftar dari id + versi setiap elemen: berubah begitu ada yang dibuat, diubah, atau dihapus
+    static String of(List<AddressResponse> addresses) {
+        StringBuilder builder = new StringBuilder();
+        for (AddressResponse address : addresses) {
+            builder.append(address.getId()).append(':').append(address.getVersion()).append(';');
+        }
+        return "\"" + TokenDigests.sha256(builder.toString()).substring(0, 16) + "\"";
+    }
+
+    static void write(ServerHttpResponse response, Long version) {
+        if (version != null) {
+            response.getHeaders().setETag(of(version));
+        }
+    }
+
+    // null berarti tanpa prekondisi (header kosong atau "*"); ETag yang tidak dikenali tidak akan pernah cocok
+    static Long ifMatch(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+
+        // If-Match memakai perbandingan kuat, ETag lemah (W/) tidak pernah cocok
+        String value = header.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "ETag does not match");
+        }
+    }
+
+    // true berarti 304 sudah disiapkan dan handler cukup selesai tanpa body; tanpa header versi tidak di-query
+    static Mono<Boolean> notModified(ServerWebExchange exchange, Mono<Long> versionLookup) {
+        if (exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH) == null) {
+            return Mono.just(false);
+        }
+        return versionLookup.map(version -> exchange.checkNotModified(of(version)));
+    }
+}
@@ -0,0 +1,33 @@
+package devdan.restful.reactive.controller;
+
+import devdan.restful.model.response.WebResponse;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestControllerAdvice
+public class ErrorController {
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<WebResponse<String>> constraintViolationException(ConstraintViolationException exception){
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(WebResponse.<String>builder().errors(exception.getMessage()).build());
+    }
+
+    // versi berubah di antara select dan update (penulis lain menang lebih dulu)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<WebResponse<String>> optimisticLockingFailure(OptimisticLockingFailureException exception){
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(WebResponse.<String>builder().errors("Resource was modified concurrently, reload and try again").build());
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<WebResponse<String>> apiException(ResponseStatusException exception){
+        return ResponseEntity.status(exception.getStatusCode())
+                .body(WebResponse.<String>builder().errors(exception.getReason()).build());
+    }
+}
@@ -0,0 +1,38 @@
+package devdan.restful.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("addresses")
+public class Address {
+
+    @Id
+    private String id;
+
+    @Column("contact_id")
+    private String contactId;
+
+    private String street;
+
+    private String city;
+
+    private String province;
+
+    private String country;
+
+    @Column("postal_code")
+    private String postalCode;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,38 @@
+package devdan.restful.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+// R2DBC tidak punya relasi, user & address dirujuk lewat kolom foreign key
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("contacts")
+public class Contact {
+
+    @Id
+    private String id;
+
+    private String username;
+
+    @Column("first_name")
+    private String firstName;
+
+    @Column("last_name")
+    private String lastName;
+
+    private String phone;
+
+    private String email;
+
+    // null = entity baru, save() menjadi INSERT
+    @Version
+    private Long version;
+}
@@ -0,0 +1,28 @@
+package devdan.restful.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+// user hanya dibaca di sini; registrasi & login tetap di aplikasi utama
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table("users")
+public class User {
+
+    @Id
+    private String username;
+
+    private String password;
+
+    private String name;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,30 @@
+package devdan.restful.reactive.repository;
+
+import devdan.restful.reactive.entity.Address;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// kepemilikan dicek lewat join ke contacts dalam satu query
+@Repository
+public interface AddressRepository extends R2dbcRepository<Address, String> {
+    @Query("SELECT a.* FROM addresses a JOIN contacts c ON c.id = a.contact_id " +
+            "WHERE a.id = :idAddress AND a.contact_id = :idContact AND c.username = :username")
+    Mono<Address> findFirstByOwner(@Param("username") String username,
+                                   @Param("idContact") String idContact,
+                                   @Param("idAddress") String idAddress);
+
+    @Query("SELECT a.version FROM addresses a JOIN contacts c ON c.id = a.contact_id " +
+            "WHERE a.id = :idAddress AND a.contact_id = :idContact AND c.username = :username")
+    Mono<Long> findVersionByOwner(@Param("username") String username,
+                                  @Param("idContact") String idContact,
+                                  @Param("idAddress") String idAddress);
+
+    @Query("SELECT a.* FROM addresses a JOIN contacts c ON c.id = a.contact_id " +
+            "WHERE a.contact_id = :idContact AND c.username = :username ORDER BY a.id")
+    Flux<Address> findAllByOwner(@Param("username") String username,
+                                 @Param("idContact") String idContact);
+}
@@ -0,0 +1,18 @@
+package devdan.restful.reactive.repository;
+
+import devdan.restful.reactive.entity.Contact;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ContactRepository extends R2dbcRepository<Contact, String> {
+    Mono<Contact> findFirstByUsernameAndId(String username, String id);
+    Mono<Boolean> existsByUsernameAndId(String username, String id);
+
+    // cukup untuk menjawab If-None-Match tanpa memuat entity
+    @Query("SELECT version FROM contacts WHERE id = :id AND username = :username")
+    Mono<Long> findVersion(@Param("username") String username, @Param("id") String id);
+}
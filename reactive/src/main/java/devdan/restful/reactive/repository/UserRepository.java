@@ -0,0 +1,9 @@
+package devdan.restful.reactive.repository;
+
+import devdan.restful.reactive.entity.User;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserRepository extends R2dbcRepository<User, String> {
+}
@@ -0,0 +1,71 @@
+package devdan.restful.reactive.resolver;
+
+import devdan.restful.config.TokenBlacklist;
+import devdan.restful.config.TokenDigests;
+import devdan.restful.reactive.config.R2dbcRevocationStore;
+import devdan.restful.reactive.entity.User;
+import devdan.restful.reactive.repository.UserRepository;
+import devdan.restful.resolver.JwtUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+// padanan JwtArgumentResolver aplikasi utama: parameter User diisi dari header Authorization
+@Component
+public class JwtArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenBlacklist tokenBlacklist;
+
+    @Autowired
+    private R2dbcRevocationStore revocationStore;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return User.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Mono<Object> resolveArgument(MethodParameter parameter,
+                                        BindingContext bindingContext,
+                                        ServerWebExchange exchange) {
+
+        String token = exchange.getRequest().getHeaders().getFirst("Authorization");
+
+        if (token == null){
+            return Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Token missing"));
+        }
+
+        String username;
+        try {
+            username = jwtUtil.validateAndGetUsername(token);
+        } catch (ResponseStatusException e) {
+            return Mono.error(e);
+        }
+
+        // sama seperti TokenBlacklist.contains: hampir semua token lolos di bloom filter tanpa query, hanya hit yang
+        // dikonfirmasi ke revoked_tokens. Error database diteruskan (fail closed), token tidak dianggap valid
+        Mono<Boolean> revocation = tokenBlacklist.mightContain(token)
+                ? revocationStore.isRevokedAsync(TokenDigests.sha256(token), System.currentTimeMillis())
+                : Mono.just(false);
+
+        return revocation
+                .flatMap(revoked -> revoked
+                        ? Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"))
+                        : userRepository.findById(username))
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found")))
+                .cast(Object.class);
+    }
+}
@@ -0,0 +1,162 @@
+package devdan.restful.reactive.service;
+
+import devdan.restful.model.request.CreateAddressRequest;
+import devdan.restful.model.request.PatchAddressRequest;
+import devdan.restful.model.request.UpdateAddressRequest;
+import devdan.restful.model.response.AddressResponse;
+import devdan.restful.reactive.entity.Address;
+import devdan.restful.reactive.entity.User;
+import devdan.restful.reactive.repository.AddressRepository;
+import devdan.restful.reactive.repository.ContactRepository;
+import devdan.restful.service.ValidationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class AddressService {
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private ValidationService validationService;
+
+    @Transactional
+    public Mono<AddressResponse> create(User user, CreateAddressRequest request){
+        validationService.validate(request);
+
+        return contactRepository.existsByUsernameAndId(user.getUsername(), request.getIdContact())
+                .flatMap(exists -> {
+                    if (!exists) {
+                        return Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Contact not found"));
+                    }
+
+                    Address address = new Address();
+                    address.setId(UUID.randomUUID().toString());
+                    address.setContactId(request.getIdContact());
+                    address.setStreet(request.getStreet());
+                    address.setCity(request.getCity());
+                    address.setProvince(request.getProvince());
+                    address.setCountry(request.getCountry());
+                    address.setPostalCode(request.getPostalCode());
+                    return addressRepository.save(address);
+                })
+                .map(this::toAddressResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<AddressResponse> get(User user, String idContact, String idAddress){
+        return findOwned(user, idContact, idAddress).map(this::toAddressResponse);
+    }
+
+    @Transactional
+    public Mono<AddressResponse> update(User user, UpdateAddressRequest request){
+        validationService.validate(request);
+
+        return findOwned(user, request.getIdContact(), request.getIdAddress())
+                .flatMap(address -> {
+                    checkVersion(address.getVersion(), request.getVersion());
+                    address.setStreet(request.getStreet());
+                    address.setCity(request.getCity());
+                    address.setProvince(request.getProvince());
+                    address.setCountry(request.getCountry());
+                    address.setPostalCode(request.getPostalCode());
+                    return addressRepository.save(address);
+                })
+                .map(this::toAddressResponse);
+    }
+
+    @Transactional
+    public Mono<AddressResponse> patch(User user, PatchAddressRequest request){
+        validationService.validate(request);
+
+        return findOwned(user, request.getIdContact(), request.getIdAddress())
+                .flatMap(address -> {
+                    checkVersion(address.getVersion(), request.getVersion());
+
+                    boolean changed = false;
+                    if (Objects.nonNull(request.getStreet()) && !request.getStreet().equals(address.getStreet())){
+                        address.setStreet(request.getStreet());
+                        changed = true;
+                    }
+                    if (Objects.nonNull(request.getCity()) && !request.getCity().equals(address.getCity())){
+                        address.setCity(request.getCity());
+                        changed = true;
+                    }
+                    if (Objects.nonNull(request.getProvince()) && !request.getProvince().equals(address.getProvince())){
+                        address.setProvince(request.getProvince());
+                        changed = true;
+                    }
+                    if (Objects.nonNull(request.getCountry()) && !request.getCountry().equals(address.getCountry())){
+                        address.setCountry(request.getCountry());
+                        changed = true;
+                    }
+                    if (Objects.nonNull(request.getPostalCode()) && !request.getPostalCode().equals(address.getPostalCode())){
+                        address.setPostalCode(request.getPostalCode());
+                        changed = true;
+                    }
+
+                    return changed ? addressRepository.save(address) : Mono.just(address);
+                })
+                .map(this::toAddressResponse);
+    }
+
+    @Transactional
+    public Mono<Void> remove(User user, String idContact, String idAddress){
+        return findOwned(user, idContact, idAddress).flatMap(addressRepository::delete);
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<Long> getVersion(User user, String idContact, String idAddress){
+        return addressRepository.findVersionByOwner(user.getUsername(), idContact, idAddress)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found")));
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<List<AddressResponse>> list(User user, String idContact){
+        return addressRepository.findAllByOwner(user.getUsername(), idContact)
+                .map(this::toAddressResponse)
+                .collectList()
+                // list kosong bisa berarti contact tidak ada, cek hanya di kasus ini
+                .flatMap(addresses -> addresses.isEmpty()
+                        ? contactRepository.existsByUsernameAndId(user.getUsername(), idContact)
+                                .flatMap(exists -> exists
+                                        ? Mono.just(addresses)
+                                        : Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Contact not found")))
+                        : Mono.just(addresses));
+    }
+
+    private Mono<Address> findOwned(User user, String idContact, String idAddress){
+        return addressRepository.findFirstByOwner(user.getUsername(), idContact, idAddress)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Address not found")));
+    }
+
+    private static void checkVersion(Long current, Long expected){
+        if (expected != null && !expected.equals(current)) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "ETag does not match");
+        }
+    }
+
+    private AddressResponse toAddressResponse(Address address){
+        return AddressResponse.builder()
+                .id(address.getId())
+                .street(address.getStreet())
+                .city(address.getCity())
+                .province(address.getProvince())
+                .country(address.getCountry())
+                .postalCode(address.getPostalCode())
+                .version(address.getVersion())
+                .build();
+    }
+}
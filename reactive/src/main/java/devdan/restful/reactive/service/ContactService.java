@@ -0,0 +1,213 @@
+package devdan.restful.reactive.service;
+
+import devdan.restful.model.request.CreateContactRequest;
+import devdan.restful.model.request.PatchContactRequest;
+import devdan.restful.model.request.SearchContactRequest;
+import devdan.restful.model.request.UpdateContactRequest;
+import devdan.restful.model.response.ContactResponse;
+import devdan.restful.reactive.entity.Contact;
+import devdan.restful.reactive.entity.User;
+import devdan.restful.reactive.repository.ContactRepository;
+import devdan.restful.service.ValidationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class ContactService {
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private ValidationService validationService;
+
+    @Autowired
+    private R2dbcEntityTemplate entityTemplate;
+
+    @Transactional
+    public Mono<ContactResponse> create(User user, CreateContactRequest request){
+        validationService.validate(request);
+
+        Contact contact = new Contact();
+        contact.setId(UUID.randomUUID().toString());
+        contact.setFirstName(request.getFirstname());
+        contact.setLastName(request.getLastname());
+        contact.setEmail(request.getEmail());
+        contact.setPhone(request.getPhone());
+        contact.setUsername(user.getUsername());
+
+        return contactRepository.save(contact).map(this::toContactResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<ContactResponse> get(User user, String id){
+        return findOwned(user, id).map(this::toContactResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<Long> getVersion(User user, String id){
+        return contactRepository.findVersion(user.getUsername(), id)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Contact not found")));
+    }
+
+    @Transactional
+    public Mono<ContactResponse> update(User user, UpdateContactRequest request){
+        validationService.validate(request);
+
+        return findOwned(user, request.getId())
+                .flatMap(contact -> {
+                    checkVersion(contact.getVersion(), request.getVersion());
+                    contact.setFirstName(request.getFirstname());
+                    contact.setLastName(request.getLastname());
+                    contact.setEmail(request.getEmail());
+                    contact.setPhone(request.getPhone());
+                    return contactRepository.save(contact);
+                })
+                .map(this::toContactResponse);
+    }
+
+    @Transactional
+    public Mono<ContactResponse> patch(User user, PatchContactRequest request){
+        validationService.validate(request);
+
+        return findOwned(user, request.getId())
+                .flatMap(contact -> {
+                    checkVersion(contact.getVersion(), request.getVersion());
+
+                    boolean changed = false;
+                    if (Objects.nonNull(request.getFirstname()) && !request.getFirstname().equals(contact.getFirstName())){
+                        contact.setFirstName(request.getFirstname());
+                        changed = true;
+                    }
+                    if (Objects.nonNull(request.getLastname()) && !request.getLastname().equals(contact.getLastName())){
+                        contact.setLastName(request.getLastname());
+                        changed = true;
+                    }
+                    if (Objects.nonNull(request.getEmail()) && !request.getEmail().equals(contact.getEmail())){
+                        contact.setEmail(request.getEmail());
+                        changed = true;
+                    }
+                    if (Objects.nonNull(request.getPhone()) && !request.getPhone().equals(contact.getPhone())){
+                        contact.setPhone(request.getPhone());
+                        changed = true;
+                    }
+
+                    // sama seperti @DynamicUpdate di aplikasi utama: tanpa perubahan tidak ada UPDATE dan versi tetap
+                    return changed ? contactRepository.save(contact) : Mono.just(contact);
+                })
+                .map(this::toContactResponse);
+    }
+
+    @Transactional
+    public Mono<Void> delete(User user, String id){
+        return contactRepository.findFirstByUsernameAndId(user.getUsername(), id)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "contact not found")))
+                .flatMap(contactRepository::delete);
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<Slice<ContactResponse>> search(User user, SearchContactRequest request){
+        validationService.validate(request);
+
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
+        String count = Objects.requireNonNullElse(request.getCount(), "exact");
+        // estimate butuh count cache aplikasi utama; ditolak daripada diam-diam menjalankan COUNT exact
+        if ("estimate".equals(count)) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Count mode estimate is not supported"));
+        }
+        if (!List.of("exact", "none").contains(count)) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid count mode"));
+        }
+
+        Criteria criteria = searchCriteria(user, request);
+        if ("none".equals(count)) {
+            // satu baris ekstra untuk tahu masih ada halaman berikutnya, tanpa COUNT(*)
+            return entityTemplate.select(Contact.class)
+                    .matching(Query.query(criteria).offset(pageable.getOffset()).limit(pageable.getPageSize() + 1))
+                    .all()
+                    .map(this::toContactResponse)
+                    .collectList()
+                    .map(contacts -> {
+                        boolean hasNext = contacts.size() > pageable.getPageSize();
+                        List<ContactResponse> content = hasNext ? contacts.subList(0, pageable.getPageSize()) : contacts;
+                        return new SliceImpl<>(content, pageable, hasNext);
+                    });
+        }
+
+        Mono<List<ContactResponse>> content = entityTemplate.select(Contact.class)
+                .matching(Query.query(criteria).with(pageable))
+                .all()
+                .map(this::toContactResponse)
+                .collectList();
+        Mono<Long> total = entityTemplate.count(Query.query(criteria), Contact.class);
+
+        // berurutan, bukan Mono.zip: dalam @Transactional keduanya memakai satu koneksi, dan satu koneksi R2DBC
+        // tidak bisa menjalankan dua query bersamaan
+        return content.flatMap(contacts -> total.map(totalElements -> new PageImpl<>(contacts, pageable, totalElements)));
+    }
+
+    private Mono<Contact> findOwned(User user, String id){
+        return contactRepository.findFirstByUsernameAndId(user.getUsername(), id)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Contact not found")));
+    }
+
+    private static void checkVersion(Long current, Long expected){
+        if (expected != null && !expected.equals(current)) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "ETag does not match");
+        }
+    }
+
+    private ContactResponse toContactResponse(Contact contact){
+        return ContactResponse.builder()
+                .id(contact.getId())
+                .firstname(contact.getFirstName())
+                .lastname(contact.getLastName())
+                .email(contact.getEmail())
+                .phone(contact.getPhone())
+                .version(contact.getVersion())
+                .build();
+    }
+
+    private Criteria searchCriteria(User user, SearchContactRequest request){
+        Criteria criteria = Criteria.where("username").is(user.getUsername());
+
+        if (Objects.nonNull(request.getName())){
+            criteria = criteria.and(Criteria.where("firstName").like(contains(request.getName()))
+                    .or("lastName").like(contains(request.getName())));
+        }
+
+        if (Objects.nonNull(request.getEmail())){
+            criteria = criteria.and("email").like(contains(request.getEmail()));
+        }
+
+        if (Objects.nonNull(request.getPhone())){
+            criteria = criteria.and("phone").like(contains(request.getPhone()));
+        }
+
+        return criteria;
+    }
+
+    // % dan _ dari input dicari apa adanya, bukan wildcard. Criteria tidak bisa menulis klausa ESCAPE seperti
+    // LIKE_ESCAPE di aplikasi utama, jadi dipakai escape default LIKE (backslash) di MySQL dan H2. Nilainya
+    // dikirim sebagai parameter, bukan literal, jadi backslash tidak ikut diproses sebagai escape string
+    private static String contains(String term){
+        String escaped = term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,112 @@
+package devdan.restful.reactive;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+// berapa koneksi bersamaan yang sanggup dilayani satu stack dengan memori yang sama.
+// Jalankan aplikasi utama (servlet) lalu modul ini (reactive) bergantian dengan batas memori yang sama, mis.
+//   java -Xmx256m -jar app/target/belajar-spring-restful-api-0.0.1-SNAPSHOT.jar
+//   java -Xmx256m -jar reactive/target/belajar-spring-restful-api-reactive-0.0.1-SNAPSHOT.jar
+// lalu dari root:
+//   mvn -pl reactive -am -Pbenchmark test-compile exec:exec -Dbench.args="http://localhost:8080/api/contacts/<id> <token> 100,1000,5000 20"
+// Setiap langkah menjaga N request in-flight (satu koneksi HTTP/1.1 per request) selama durasi tertentu
+public class ConnectionCapacityBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("usage: ConnectionCapacityBenchmark <url> <token> [concurrency,...] [seconds]");
+            System.exit(1);
+        }
+
+        URI uri = URI.create(args[0]);
+        String token = args[1];
+        String[] steps = (args.length > 2 ? args[2] : "100,500,1000,2000,5000").split(",");
+        Duration duration = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 20);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", token)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+
+        System.out.printf("%-12s %12s %10s %10s %10s %10s%n", "connections", "requests/s", "p50 ms", "p99 ms", "errors", "error %");
+        for (String step : steps) {
+            Result result = run(client, request, Integer.parseInt(step.trim()), duration);
+            System.out.printf(Locale.ROOT, "%-12d %12.1f %10.1f %10.1f %10d %10.2f%n",
+                    result.connections(), result.throughput(), result.percentile(0.50), result.percentile(0.99),
+                    result.errors(), result.errorRate() * 100);
+        }
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int connections, Duration duration) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < connections; i++) {
+            workers.add(loop(client, request, deadline, latencies, errors));
+        }
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(connections, sorted, errors.get(), seconds);
+    }
+
+    // closed loop: request berikutnya dikirim begitu response sebelumnya selesai
+    private static CompletableFuture<Void> loop(HttpClient client, HttpRequest request, long deadline,
+                                                ConcurrentLinkedQueue<Long> latencies, AtomicLong errors) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long sent = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error != null || response.statusCode() >= 400) {
+                        errors.incrementAndGet();
+                    } else {
+                        latencies.add(System.nanoTime() - sent);
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> loop(client, request, deadline, latencies, errors));
+    }
+
+    private record Result(int connections, long[] latencies, long errors, double seconds) {
+
+        double throughput() {
+            return latencies.length / seconds;
+        }
+
+        double percentile(double percentile) {
+            if (latencies.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(percentile * latencies.length) - 1);
+            return latencies[Math.max(index, 0)] / 1e6;
+        }
+
+        double errorRate() {
+            long total = latencies.length + errors;
+            return total == 0 ? 0 : (double) errors / total;
+        }
+    }
+}
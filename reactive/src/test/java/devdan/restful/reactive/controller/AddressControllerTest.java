@@ -0,0 +1,209 @@
+package devdan.restful.reactive.controller;
+
+import devdan.restful.reactive.entity.Address;
+import devdan.restful.reactive.entity.Contact;
+import devdan.restful.reactive.entity.User;
+import devdan.restful.reactive.repository.AddressRepository;
+import devdan.restful.reactive.repository.ContactRepository;
+import devdan.restful.reactive.repository.UserRepository;
+import devdan.restful.resolver.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class AddressControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        addressRepository.deleteAll().block();
+        contactRepository.deleteAll().block();
+        userRepository.deleteAll().block();
+
+        userRepository.save(new User("test", "admin", "Test", null)).block();
+        userRepository.save(new User("other", "admin", "Other", null)).block();
+        contactRepository.save(new Contact("ssss", "test", "Ardhani", "Ahlan", "0812114134", "ardhan@example.com", null)).block();
+        token = jwtUtil.generateTokenWithExpiration("test", 60_000);
+    }
+
+    @Test
+    void testCreateAddressSuccess() {
+        webTestClient.post().uri("/api/contacts/ssss/addresses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", token)
+                .bodyValue("{\"street\":\"Telaga Murni\",\"city\":\"Bekasi\",\"country\":\"Indonesia\",\"postalCode\":\"12345\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.street").isEqualTo("Telaga Murni")
+                .jsonPath("$.data.postalCode").isEqualTo("12345");
+
+        assertEquals(1, addressRepository.count().block());
+    }
+
+    @Test
+    void testCreateAddressBadRequest() {
+        webTestClient.post().uri("/api/contacts/ssss/addresses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", token)
+                .bodyValue("{\"country\":\"\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testAddressOfOtherUserNotFound() {
+        saveAddress("address-1");
+        String otherToken = jwtUtil.generateTokenWithExpiration("other", 60_000);
+
+        webTestClient.get().uri("/api/contacts/ssss/addresses/address-1")
+                .header("Authorization", otherToken)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.get().uri("/api/contacts/ssss/addresses")
+                .header("Authorization", otherToken)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.post().uri("/api/contacts/ssss/addresses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", otherToken)
+                .bodyValue("{\"country\":\"Indonesia\"}")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testGetAddressNotModified() {
+        saveAddress("address-1");
+
+        String etag = webTestClient.get().uri("/api/contacts/ssss/addresses/address-1")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.city").isEqualTo("Bekasi")
+                .returnResult().getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/api/contacts/ssss/addresses/address-1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void testUpdateAndPatchAddress() {
+        saveAddress("address-1");
+
+        webTestClient.put().uri("/api/contacts/ssss/addresses/address-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .header("Authorization", token)
+                .bodyValue("{\"street\":\"Jalan Baru\",\"city\":\"Jakarta\",\"country\":\"Indonesia\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody().jsonPath("$.data.city").isEqualTo("Jakarta");
+
+        webTestClient.patch().uri("/api/contacts/ssss/addresses/address-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .header("Authorization", token)
+                .bodyValue("{\"city\":\"Bandung\"}")
+                .exchange()
+                .expectStatus().isEqualTo(412);
+
+        webTestClient.patch().uri("/api/contacts/ssss/addresses/address-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"1\"")
+                .header("Authorization", token)
+                .bodyValue("{\"city\":\"Bandung\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2\"")
+                .expectBody()
+                .jsonPath("$.data.street").isEqualTo("Jalan Baru")
+                .jsonPath("$.data.city").isEqualTo("Bandung");
+    }
+
+    @Test
+    void testRemoveAddressSuccess() {
+        saveAddress("address-1");
+
+        webTestClient.delete().uri("/api/contacts/ssss/addresses/address-1")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data").isEqualTo("OK");
+
+        assertFalse(addressRepository.existsById("address-1").block());
+
+        webTestClient.delete().uri("/api/contacts/ssss/addresses/address-1")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testListAddressNotModifiedUntilAddressChanges() {
+        webTestClient.get().uri("/api/contacts/tidakada/addresses")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        saveAddress("address-1");
+        saveAddress("address-2");
+
+        String etag = webTestClient.get().uri("/api/contacts/ssss/addresses")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.length()").isEqualTo(2)
+                .returnResult().getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/api/contacts/ssss/addresses")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        saveAddress("address-3");
+
+        webTestClient.get().uri("/api/contacts/ssss/addresses")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.length()").isEqualTo(3);
+    }
+
+    private void saveAddress(String id) {
+        addressRepository.save(new Address(id, "ssss", "Telaga Murni", "Bekasi", "Jawa Barat", "Indonesia", "12345", null)).block();
+    }
+}
@@ -0,0 +1,313 @@
+package devdan.restful.reactive.controller;
+
+import devdan.restful.config.TokenBlacklist;
+import devdan.restful.config.TokenDigests;
+import devdan.restful.reactive.config.R2dbcRevocationStore;
+import devdan.restful.reactive.entity.Contact;
+import devdan.restful.reactive.entity.User;
+import devdan.restful.reactive.repository.AddressRepository;
+import devdan.restful.reactive.repository.ContactRepository;
+import devdan.restful.reactive.repository.UserRepository;
+import devdan.restful.resolver.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ContactControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenBlacklist tokenBlacklist;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM revoked_tokens").then().block();
+        tokenBlacklist.rebuild();
+        addressRepository.deleteAll().block();
+        contactRepository.deleteAll().block();
+        userRepository.deleteAll().block();
+
+        userRepository.save(new User("test", "admin", "Test", null)).block();
+        token = jwtUtil.generateTokenWithExpiration("test", 60_000);
+    }
+
+    @Test
+    void testCreateContactBadRequest() {
+        webTestClient.post().uri("/api/contacts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", token)
+                .bodyValue("{\"firstname\":\"\",\"email\":\"salah\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.errors").isNotEmpty();
+    }
+
+    @Test
+    void testCreateContactSuccess() {
+        webTestClient.post().uri("/api/contacts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", token)
+                .bodyValue("{\"firstname\":\"Ardhani\",\"lastname\":\"Ahlan\",\"email\":\"ardhan@example.com\",\"phone\":\"0812114134\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.errors").doesNotExist()
+                .jsonPath("$.data.firstname").isEqualTo("Ardhani")
+                .jsonPath("$.data.email").isEqualTo("ardhan@example.com");
+
+        assertEquals(1, contactRepository.count().block());
+    }
+
+    @Test
+    void testUnauthorized() {
+        webTestClient.get().uri("/api/contacts/ssss")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .exchange()
+                .expectStatus().isUnauthorized()
+                .expectBody().jsonPath("$.errors").isEqualTo("Token missing");
+
+        webTestClient.get().uri("/api/contacts/ssss")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("Authorization", new JwtUtil("secretLainYangJugaPanjangSekali1234567890", 60_000).generatedToken("test"))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void testRevokedTokenRejected() {
+        // revoke dari aplikasi utama: baru terlihat setelah refresh bloom filter
+        databaseClient.sql("INSERT INTO revoked_tokens (token_hash, expires_at, revoked_at) VALUES (:tokenHash, :expiresAt, :revokedAt)")
+                .bind("tokenHash", TokenDigests.sha256(token))
+                .bind("expiresAt", System.currentTimeMillis() + 60_000)
+                .bind("revokedAt", System.currentTimeMillis())
+                .then().block();
+        tokenBlacklist.refresh();
+
+        webTestClient.get().uri("/api/contacts")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void testRevocationRequiresJdbcStore() {
+        assertThrows(IllegalStateException.class, () -> new R2dbcRevocationStore(databaseClient, "memory"));
+    }
+
+    @Test
+    void testGetContactNotFound() {
+        webTestClient.get().uri("/api/contacts/ssss")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testGetContactNotModified() {
+        saveContact("ssss", "Ardhani");
+
+        String etag = webTestClient.get().uri("/api/contacts/ssss")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.firstname").isEqualTo("Ardhani")
+                .returnResult().getResponseHeaders().getETag();
+        assertEquals("\"0\"", etag);
+
+        webTestClient.get().uri("/api/contacts/ssss")
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void testUpdateContactSuccess() {
+        saveContact("ssss", "Ardhani");
+
+        webTestClient.put().uri("/api/contacts/ssss")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .header("Authorization", token)
+                .bodyValue("{\"firstname\":\"Budi\",\"lastname\":\"Nugraha\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody().jsonPath("$.data.firstname").isEqualTo("Budi");
+
+        Contact contact = contactRepository.findById("ssss").block();
+        assertNotNull(contact);
+        assertEquals("Budi", contact.getFirstName());
+        assertEquals(1L, contact.getVersion());
+    }
+
+    @Test
+    void testUpdateContactPreconditionFailed() {
+        saveContact("ssss", "Ardhani");
+
+        webTestClient.put().uri("/api/contacts/ssss")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"5\"")
+                .header("Authorization", token)
+                .bodyValue("{\"firstname\":\"Budi\"}")
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    void testPatchContactOnlySuppliedFields() {
+        saveContact("ssss", "Ardhani");
+
+        webTestClient.patch().uri("/api/contacts/ssss")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", token)
+                .bodyValue("{\"phone\":\"0899\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody()
+                .jsonPath("$.data.firstname").isEqualTo("Ardhani")
+                .jsonPath("$.data.phone").isEqualTo("0899");
+
+        // nilai sama: tidak ada UPDATE, versi tetap
+        webTestClient.patch().uri("/api/contacts/ssss")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", token)
+                .bodyValue("{\"phone\":\"0899\"}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+    }
+
+    @Test
+    void testDeleteContactSuccess() {
+        saveContact("ssss", "Ardhani");
+
+        webTestClient.delete().uri("/api/contacts/ssss")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data").isEqualTo("OK");
+
+        assertFalse(contactRepository.existsById("ssss").block());
+
+        webTestClient.delete().uri("/api/contacts/ssss")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void testSearchSuccess() {
+        for (int i = 0; i < 15; i++) {
+            saveContact("contact-" + i, "Ardhani" + i);
+        }
+
+        webTestClient.get().uri("/api/contacts?name=Ardhani&page=1&size=10")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.length()").isEqualTo(5)
+                .jsonPath("$.pagingResponse.currentPage").isEqualTo(1)
+                .jsonPath("$.pagingResponse.totalPage").isEqualTo(2)
+                .jsonPath("$.pagingResponse.hasMore").isEqualTo(false);
+
+        webTestClient.get().uri("/api/contacts?page=0&size=10&count=none")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.length()").isEqualTo(10)
+                .jsonPath("$.pagingResponse.totalPage").doesNotExist()
+                .jsonPath("$.pagingResponse.hasMore").isEqualTo(true);
+
+        webTestClient.get().uri("/api/contacts?name=tidakada")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.length()").isEqualTo(0);
+    }
+
+    @Test
+    void testSearchWithInvalidCountMode() {
+        webTestClient.get().uri("/api/contacts?count=salah")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testSearchWithEstimateCountModeRejected() {
+        webTestClient.get().uri("/api/contacts?count=estimate")
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testSearchWildcardsAreLiteral() {
+        saveContact("persen", "100%");
+        saveContact("garis", "a_b");
+        saveContact("biasa", "axb");
+
+        webTestClient.get().uri(uri -> uri.path("/api/contacts").queryParam("name", "{name}").build("%"))
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.length()").isEqualTo(1)
+                .jsonPath("$.data[0].firstname").isEqualTo("100%");
+
+        webTestClient.get().uri(uri -> uri.path("/api/contacts").queryParam("name", "{name}").build("a_b"))
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.length()").isEqualTo(1)
+                .jsonPath("$.data[0].firstname").isEqualTo("a_b");
+
+        webTestClient.get().uri(uri -> uri.path("/api/contacts").queryParam("name", "{name}").build("a\\b"))
+                .header("Authorization", token)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.data.length()").isEqualTo(0);
+    }
+
+    private void saveContact(String id, String firstName) {
+        contactRepository.save(new Contact(id, "test", firstName, "Ahlan", "0812114134", "ardhan@example.com", null)).block();
+    }
+}
@@ -0,0 +1,40 @@
+-- skema yang dipakai aplikasi utama (lihat migration Flyway di app/src/main/resources/db/migration)
+CREATE TABLE IF NOT EXISTS users (
+    username VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (username)
+);
+
+CREATE TABLE IF NOT EXISTS contacts (
+    id VARCHAR(100) NOT NULL,
+    username VARCHAR(100) NOT NULL,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100),
+    phone VARCHAR(100),
+    email VARCHAR(100),
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    FOREIGN KEY (username) REFERENCES users (username)
+);
+
+CREATE TABLE IF NOT EXISTS addresses (
+    id VARCHAR(100) NOT NULL,
+    contact_id VARCHAR(100) NOT NULL,
+    country VARCHAR(100) NOT NULL,
+    street VARCHAR(100),
+    city VARCHAR(100),
+    province VARCHAR(100),
+    postal_code VARCHAR(10),
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    FOREIGN KEY (contact_id) REFERENCES contacts (id)
+);
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_hash CHAR(64) NOT NULL,
+    expires_at BIGINT NOT NULL,
+    revoked_at BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (token_hash)
+);
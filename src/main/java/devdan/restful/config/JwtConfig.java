@@ -1,34 +0,0 @@
-package devdan.restful.config;
-
-import devdan.restful.resolver.JwtUtil;
-import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-@ConfigurationProperties(prefix = "jwt")
-public class JwtConfig {
-
-    private String secret;
-    private long expiration;
-
-    // wajib ada getter & setter untuk binding
-    public String getSecret() {
-        return secret;
-    }
-    public void setSecret(String secret) {
-        this.secret = secret;
-    }
-
-    public long getExpiration() {
-        return expiration;
-    }
-    public void setExpiration(long expiration) {
-        this.expiration = expiration;
-    }
-
-    @Bean
-    public JwtUtil jwtUtil() {
-        return new JwtUtil(secret, expiration);
-    }
-}
@@ -1,19 +0,0 @@
-package devdan.restful.config;
-
-import org.springframework.stereotype.Component;
-
-import java.util.HashSet;
-import java.util.Set;
-
-@Component
-public class TokenBlacklist {
-    private final Set<String> blacklist = new HashSet<>();
-
-    public void add(String token) {
-        blacklist.add(token);
-    }
-
-    public boolean contains(String token){
-        return blacklist.contains(token);
-    }
-}
@@ -1,73 +0,0 @@
-package devdan.restful.service;
-
-import devdan.restful.entity.User;
-import devdan.restful.model.request.RegisterUserRequest;
-import devdan.restful.model.request.UpdateUserRequest;
-import devdan.restful.model.response.UserResponse;
-import devdan.restful.repository.UserRepository;
-import jakarta.transaction.Transactional;
-import jakarta.validation.Validator;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
-
-import java.util.Objects;
-
-@Service
-public class UserService {
-
-    @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private Validator validator;
-
-    @Autowired
-    private PasswordEncoder passwordEncoder;
-
-    @Autowired
-    private ValidationService validationService;
-
-    @Transactional
-    public void register(RegisterUserRequest request){
-        validationService.validate(request);
-
-        if (userRepository.existsById(request.getUsername())){
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Username already registered");
-        }
-
-        User user = new User();
-        user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setName(request.getName());
-
-        userRepository.save(user);
-    }
-
-    public UserResponse get(User user){
-        return UserResponse.builder()
-                .username(user.getUsername())
-                .name(user.getName())
-                .build();
-    }
-
-    @Transactional
-    public UserResponse update(User user, UpdateUserRequest request){
-        validationService.validate(request);
-        if (Objects.nonNull(request.getName())){
-            user.setName(request.getName());
-        }
-        if (Objects.nonNull(request.getPassword())){
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
-        }
-
-        userRepository.save(user);
-
-        return UserResponse.builder()
-                .name(user.getName())
-                .username(user.getUsername())
-                .build();
-    }
-}
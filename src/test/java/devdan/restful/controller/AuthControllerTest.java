@@ -1,180 +0,0 @@
-package devdan.restful.controller;
-
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import devdan.restful.entity.User;
-import devdan.restful.model.request.LoginUserRequest;
-import devdan.restful.model.response.TokenResponse;
-import devdan.restful.model.response.WebResponse;
-import devdan.restful.repository.AddressRepository;
-import devdan.restful.repository.ContactRepository;
-import devdan.restful.repository.UserRepository;
-import devdan.restful.resolver.JwtUtil;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.MediaType;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.test.web.servlet.MockMvc;
-
-import static org.junit.jupiter.api.Assertions.*;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
-
-
-@SpringBootTest
-@AutoConfigureMockMvc
-class AuthControllerTest {
-
-    @Autowired
-    private MockMvc mockMvc;
-
-    @Autowired
-    private UserRepository userRepository;
-
-    @Autowired
-    private ContactRepository contactRepository;
-
-    @Autowired
-    private AddressRepository addressRepository;
-
-    @Autowired
-    private ObjectMapper objectMapper;
-
-    @Autowired
-    private PasswordEncoder passwordEncoder;
-
-    @Autowired
-    private JwtUtil jwtUtil;
-
-    @BeforeEach
-    void setUp() {
-        addressRepository.deleteAll();
-        contactRepository.deleteAll();
-        userRepository.deleteAll();
-    }
-
-    @Test
-    void testLoginSuccess() throws Exception {
-        User user = new User();
-        user.setName("Test");
-        user.setUsername("test");
-        user.setPassword(passwordEncoder.encode("admin"));
-        userRepository.save(user);
-
-        LoginUserRequest request = new LoginUserRequest();
-        request.setUsername("test");
-        request.setPassword("admin");
-
-        mockMvc.perform(
-                post("/api/auth/login")
-                        .accept(MediaType.APPLICATION_JSON_VALUE)
-                        .contentType(MediaType.APPLICATION_JSON_VALUE)
-                        .content(objectMapper.writeValueAsString(request))
-        ).andExpectAll(
-                status().isOk()
-        ).andDo(result -> {
-            WebResponse<TokenResponse> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
-            });
-            assertNull(response.getErrors());
-            assertNotNull(response.getData().getToken());
-            assertNotNull(response.getData().getExpiredAt());
-
-            User userDb = userRepository.findById("test").orElse(null);
-            assertNotNull(userDb);
-
-        });
-    }
-
-    @Test
-    void testLoginFailedUserNotFound() throws Exception {
-        LoginUserRequest request = new LoginUserRequest();
-        request.setUsername("test");
-        request.setPassword("admin");
-
-        mockMvc.perform(
-                post("/api/auth/login")
-                        .accept(MediaType.APPLICATION_JSON_VALUE)
-                        .contentType(MediaType.APPLICATION_JSON_VALUE)
-                        .content(objectMapper.writeValueAsString(request))
-        ).andExpectAll(
-                status().isUnauthorized()
-        ).andDo(result -> {
-            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
-            });
-           assertNotNull(response.getErrors());
-        });
-    }
-
-    @Test
-    void testLoginFailedWrongPassword() throws Exception {
-        User user = new User();
-        user.setUsername("test");
-        user.setPassword(passwordEncoder.encode("admin"));
-        user.setName("Test");
-        userRepository.save(user);
-
-        LoginUserRequest request = new LoginUserRequest();
-        request.setUsername("test");
-        request.setPassword("idmin");
-
-        mockMvc.perform(
-                post("/api/auth/login")
-                        .accept(MediaType.APPLICATION_JSON_VALUE)
-                        .contentType(MediaType.APPLICATION_JSON_VALUE)
-                        .content(objectMapper.writeValueAsString(request))
-        ).andExpectAll(
-                status().isUnauthorized()
-        ).andDo(result -> {
-            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
-            });
-            assertNotNull(response.getErrors());
-        });
-    }
-
-    @Test
-    void logoutFailed() throws Exception{
-        mockMvc.perform(
-                delete("/api/auth/logout")
-                        .accept(MediaType.APPLICATION_JSON_VALUE)
-        ).andExpectAll(
-                status().isUnauthorized()
-        ).andDo(result -> {
-            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
-            });
-            assertNotNull(response.getErrors());
-        });
-    }
-
-    @Test
-    void logoutSuccess() throws Exception{
-
-        User user = new User();
-        user.setName("Ardhan");
-        user.setUsername("test");
-        user.setPassword(passwordEncoder.encode("admin"));
-        userRepository.save(user);
-
-        String token = jwtUtil.generatedToken(user.getUsername());
-
-        mockMvc.perform(
-                delete("/api/auth/logout")
-                        .accept(MediaType.APPLICATION_JSON_VALUE)
-                        .header("Authorization", token)
-        ).andExpectAll(
-                status().isOk()
-        ).andDo(result -> {
-            WebResponse<String> response = objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
-            });
-            assertNull(response.getErrors());
-            assertEquals("OK", response.getData());
-
-            User userDB = userRepository.findById("test").orElse(null);
-            assertNotNull(userDB);
-        });
-    }
-
-}
\ No newline at end of file